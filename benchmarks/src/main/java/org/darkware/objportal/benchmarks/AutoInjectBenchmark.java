@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code autoInject} on existing objects for each provider, varying either the number of injected fields
+ * on a flat class or the depth of the class hierarchy. Each level of the hierarchy declares two injected fields.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class AutoInjectBenchmark
+{
+    @Benchmark
+    public Object fields(final ContextState context, final FieldTarget target)
+    {
+        context.getContext().autoInject(target.instance);
+        return target.instance;
+    }
+
+    @Benchmark
+    public Object depth(final ContextState context, final DepthTarget target)
+    {
+        context.getContext().autoInject(target.instance);
+        return target.instance;
+    }
+
+    /** A per-thread instance of a flat class with the requested number of injected fields. */
+    @State(Scope.Thread)
+    public static class FieldTarget
+    {
+        @Param({"1", "4", "16"})
+        public int fields;
+
+        private Object instance;
+
+        @Setup
+        public void setup()
+        {
+            switch (this.fields)
+            {
+                case 1:
+                    this.instance = new Flat1();
+                    break;
+                case 4:
+                    this.instance = new Flat4();
+                    break;
+                case 16:
+                    this.instance = new Flat16();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported field count: " + this.fields);
+            }
+        }
+    }
+
+    /** A per-thread instance of a class with the requested number of injected ancestor classes. */
+    @State(Scope.Thread)
+    public static class DepthTarget
+    {
+        @Param({"0", "2", "4"})
+        public int depth;
+
+        private Object instance;
+
+        @Setup
+        public void setup()
+        {
+            switch (this.depth)
+            {
+                case 0:
+                    this.instance = new Level0();
+                    break;
+                case 2:
+                    this.instance = new Level2();
+                    break;
+                case 4:
+                    this.instance = new Level4();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported depth: " + this.depth);
+            }
+        }
+    }
+
+    /** A class with one injected field. */
+    public static class Flat1
+    {
+        @Inject
+        private Integer a;
+    }
+
+    /** A class with four injected fields. */
+    public static class Flat4
+    {
+        @Inject
+        private Integer a;
+        @Inject
+        private String b;
+        @Inject
+        private Long c;
+        @Inject
+        private Double d;
+    }
+
+    /** A class with sixteen injected fields. */
+    public static class Flat16
+    {
+        @Inject
+        private Integer a1;
+        @Inject
+        private String b1;
+        @Inject
+        private Long c1;
+        @Inject
+        private Double d1;
+        @Inject
+        private Integer a2;
+        @Inject
+        private String b2;
+        @Inject
+        private Long c2;
+        @Inject
+        private Double d2;
+        @Inject
+        private Integer a3;
+        @Inject
+        private String b3;
+        @Inject
+        private Long c3;
+        @Inject
+        private Double d3;
+        @Inject
+        private Integer a4;
+        @Inject
+        private String b4;
+        @Inject
+        private Long c4;
+        @Inject
+        private Double d4;
+    }
+
+    /** The root of the injected hierarchy. */
+    public static class Level0
+    {
+        @Inject
+        private Integer a0;
+        @Inject
+        private String b0;
+    }
+
+    /** The first level below the root. */
+    public static class Level1 extends Level0
+    {
+        @Inject
+        private Long a1;
+        @Inject
+        private Double b1;
+    }
+
+    /** The second level below the root. */
+    public static class Level2 extends Level1
+    {
+        @Inject
+        private Integer a2;
+        @Inject
+        private String b2;
+    }
+
+    /** The third level below the root. */
+    public static class Level3 extends Level2
+    {
+        @Inject
+        private Long a3;
+        @Inject
+        private Double b3;
+    }
+
+    /** The fourth level below the root. */
+    public static class Level4 extends Level3
+    {
+        @Inject
+        private Integer a4;
+        @Inject
+        private String b4;
+    }
+}
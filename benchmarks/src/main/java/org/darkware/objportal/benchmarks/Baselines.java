@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the provider and injection suites at each of the baseline thread counts with allocation profiling enabled,
+ * writing one JSON result file per thread count. The results are checked in under {@code benchmarks/baselines} so
+ * that later releases can be compared against them.
+ * <p>
+ * Any standard JMH options given on the command line (such as {@code -wi} or {@code -i}) are applied to every run,
+ * but checked-in baselines should use the iteration and fork counts declared on the suites. The output directory
+ * defaults to {@code baselines} and can be changed with the {@code objportal.baselines} system property.
+ * <p>
+ * Thread counts above the number of available processors are skipped, since those runs would measure time-slicing
+ * rather than parallel scaling. Setting the {@code objportal.oversubscribe} system property to {@code true} runs
+ * them anyway, with a warning. The local path of the JVM is removed from each result file before it is kept.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class Baselines
+{
+    private static final int[] threadCounts = {1, 8, 64};
+    private static final String[] suites = {ProviderBenchmark.class.getSimpleName(), AutoInjectBenchmark.class.getSimpleName()};
+    private static final Pattern jvmPath = Pattern.compile("(\"jvm\"\\s*:\\s*)\"[^\"]*\"");
+
+    private Baselines()
+    {
+        super();
+    }
+
+    public static void main(final String[] args) throws Exception
+    {
+        final Path output = Paths.get(System.getProperty("objportal.baselines", "baselines"));
+        Files.createDirectories(output);
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final boolean oversubscribe = Boolean.getBoolean("objportal.oversubscribe");
+        final CommandLineOptions parent = new CommandLineOptions(args);
+        for (final int threads : Baselines.threadCounts)
+        {
+            if (threads > processors)
+            {
+                if (!oversubscribe)
+                {
+                    System.out.println("Skipping " + threads + " threads: only " + processors + " processors available");
+                    continue;
+                }
+                System.out.println("Running " + threads + " threads on " + processors
+                                   + " processors: results will include time-slicing");
+            }
+
+            final Path result = output.resolve("threads-" + threads + ".json");
+            final OptionsBuilder builder = new OptionsBuilder();
+            builder.parent(parent);
+            for (final String suite : Baselines.suites) builder.include("\\." + suite + "\\.");
+
+            final Options options = builder.threads(threads)
+                                           .addProfiler(GCProfiler.class)
+                                           .resultFormat(ResultFormatType.JSON)
+                                           .result(result.toString())
+                                           .build();
+
+            new Runner(options).run();
+            Baselines.stripJvmPath(result);
+        }
+    }
+
+    /**
+     * Replaces the JVM executable path recorded in a JMH result file with the plain command name, so that checked-in
+     * results do not carry details of the machine that produced them.
+     *
+     * @param result The result file to rewrite.
+     * @throws IOException If the file could not be read or written.
+     */
+    private static void stripJvmPath(final Path result) throws IOException
+    {
+        final String json = new String(Files.readAllBytes(result), StandardCharsets.UTF_8);
+        final String stripped = Baselines.jvmPath.matcher(json).replaceAll("$1\"java\"");
+        Files.write(result, stripped.getBytes(StandardCharsets.UTF_8));
+    }
+}
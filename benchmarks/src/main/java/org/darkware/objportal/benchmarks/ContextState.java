@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.darkware.objportal.PortalContext;
+import org.darkware.objportal.PortalProvider;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread benchmark state holding the context the provider resolves for the benchmark thread. The context is
+ * populated with the bindings used by the benchmark target classes. Shared contexts are simply populated once by
+ * each thread, while thread-bound providers give each thread a context of its own.
+ * <p>
+ * Benchmarks which should include the cost of finding the context call {@link #resolveContext()} on every operation
+ * instead of using the context held here.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+public class ContextState
+{
+    private PortalProvider provider;
+    private PortalContext context;
+
+    @Setup
+    public void setup(final ProviderState providerState)
+    {
+        this.provider = providerState.getProvider();
+        this.context = this.provider.getPortalContext();
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "answer");
+        this.context.place(Long.class, 42L);
+        this.context.place(Double.class, 42.0);
+    }
+
+    /**
+     * Fetch the context resolved for the current benchmark thread.
+     *
+     * @return The thread's {@link PortalContext}.
+     */
+    public PortalContext getContext()
+    {
+        return this.context;
+    }
+
+    /**
+     * Ask the provider for the current benchmark thread's context.
+     *
+     * @return The {@link PortalContext} the provider resolves for this thread.
+     */
+    public PortalContext resolveContext()
+    {
+        return this.provider.getPortalContext();
+    }
+}
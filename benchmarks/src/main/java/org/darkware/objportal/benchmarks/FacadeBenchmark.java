@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.darkware.objportal.ObjectPortal;
+import org.darkware.objportal.PortalHandle;
+import org.darkware.objportal.PortalProvider;
+import org.darkware.objportal.SimplePortalProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of a {@link ObjectPortal#take(Class)} call through the facade. The provider is read from
+ * the facade's call site, and the results are compared with the plain and volatile static fields the facade used to
+ * hold, and with a {@link PortalHandle}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FacadeBenchmark
+{
+    private static PortalProvider plainProvider;
+    private static volatile PortalProvider volatileProvider;
+
+    private PortalHandle handle;
+
+    @Setup
+    public void setup()
+    {
+        SimplePortalProvider provider = new SimplePortalProvider();
+        provider.getPortalContext().place(Integer.class, 42);
+
+        ObjectPortal.useProvider(provider);
+        FacadeBenchmark.plainProvider = provider;
+        FacadeBenchmark.volatileProvider = provider;
+
+        this.handle = ObjectPortal.current();
+    }
+
+    @Benchmark
+    public Integer callSite()
+    {
+        return ObjectPortal.take(Integer.class);
+    }
+
+    @Benchmark
+    public Integer plainField()
+    {
+        return FacadeBenchmark.plainProvider.getPortalContext().take(Integer.class);
+    }
+
+    @Benchmark
+    public Integer volatileField()
+    {
+        return FacadeBenchmark.volatileProvider.getPortalContext().take(Integer.class);
+    }
+
+    @Benchmark
+    public Integer handle()
+    {
+        return this.handle.take(Integer.class);
+    }
+}
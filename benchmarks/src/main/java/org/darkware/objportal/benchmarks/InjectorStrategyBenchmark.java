@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.darkware.objportal.FieldInjector;
+import org.darkware.objportal.InjectionPlan;
+import org.darkware.objportal.InjectorStrategy;
+import org.darkware.objportal.MethodHandleInjectorStrategy;
+import org.darkware.objportal.ReflectionInjectorStrategy;
+import org.darkware.objportal.SimplePortalContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of writing a single injected field with each {@link InjectorStrategy}, both in isolation and as
+ * part of a full {@link SimplePortalContext#autoInject(Object)} call.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InjectorStrategyBenchmark
+{
+    @Param({"reflection", "methodHandle"})
+    public String strategy;
+
+    private FieldInjector injector;
+    private SimplePortalContext context;
+    private final Integer value = 42;
+    private final Target target = new Target();
+
+    @Setup
+    public void setup()
+    {
+        InjectorStrategy selected = this.strategy.equals("reflection")
+                                    ? ReflectionInjectorStrategy.INSTANCE
+                                    : MethodHandleInjectorStrategy.INSTANCE;
+
+        this.injector = selected.createInjector(InjectionPlan.forClass(Target.class).getField(0));
+
+        this.context = new SimplePortalContext();
+        this.context.useInjectorStrategy(selected);
+        this.context.place(Integer.class, this.value);
+    }
+
+    @Benchmark
+    public Target injectField()
+    {
+        this.injector.inject(this.target, this.value);
+        return this.target;
+    }
+
+    @Benchmark
+    public Target autoInject()
+    {
+        this.context.autoInject(this.target);
+        return this.target;
+    }
+
+    /** A class with a single injected field. */
+    public static class Target
+    {
+        @Inject
+        private Integer answer;
+    }
+}
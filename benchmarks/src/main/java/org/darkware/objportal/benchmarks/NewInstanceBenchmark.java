@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.darkware.objportal.SimplePortalContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SimplePortalContext#newInstance(Class)} with and without compiled injectors.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NewInstanceBenchmark
+{
+    @Param({"false", "true"})
+    public boolean compiled;
+
+    private SimplePortalContext context;
+
+    @Setup
+    public void setup()
+    {
+        this.context = new SimplePortalContext();
+        this.context.enableCompiledInjectors(this.compiled);
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "answer");
+        this.context.place(Long.class, 42L);
+    }
+
+    @Benchmark
+    public Target newInstance()
+    {
+        return this.context.newInstance(Target.class);
+    }
+
+    /** A class with a few injected fields. */
+    public static class Target
+    {
+        @Inject
+        private Integer answer;
+        @Inject
+        private String name;
+        @Inject
+        private Long id;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.darkware.objportal.PortalContext;
+import org.darkware.objportal.PortalProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the core provider and context operations for each {@link PortalProvider}. Every context operation first
+ * asks the provider for the benchmark thread's context, so its score includes the provider's lookup just as a call
+ * through {@code ObjectPortal} would. Run with {@code -t} (or through {@link Baselines}) to compare providers at
+ * different thread counts.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class ProviderBenchmark
+{
+    @Benchmark
+    public PortalContext getPortalContext(final ProviderState state)
+    {
+        return state.getProvider().getPortalContext();
+    }
+
+    @Benchmark
+    public Integer take(final ContextState state)
+    {
+        return state.resolveContext().take(Integer.class);
+    }
+
+    @Benchmark
+    public boolean hasInstance(final ContextState state)
+    {
+        return state.resolveContext().hasInstance(Integer.class);
+    }
+
+    @Benchmark
+    public void place(final ContextState state)
+    {
+        state.resolveContext().place(Integer.class, 42);
+    }
+
+    @Benchmark
+    public Target newInstance(final ContextState state)
+    {
+        return state.resolveContext().newInstance(Target.class);
+    }
+
+    /** A class with a few injected fields. */
+    public static class Target
+    {
+        @Inject
+        private Integer answer;
+        @Inject
+        private String name;
+        @Inject
+        private Long id;
+        @Inject
+        private Double ratio;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.darkware.objportal.PortalProvider;
+import org.darkware.objportal.SimplePortalProvider;
+import org.darkware.objportal.SingletonPortalProvider;
+import org.darkware.objportal.ThreadLocalPortalProvider;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state holding a single {@link PortalProvider}, selected by the {@code provider} parameter. The
+ * provider is shared by every benchmark thread, so multi-threaded runs measure each provider under contention.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+public class ProviderState
+{
+    @Param({"singleton", "simple", "threadLocal"})
+    public String provider;
+
+    private PortalProvider portalProvider;
+
+    @Setup
+    public void setup()
+    {
+        switch (this.provider)
+        {
+            case "singleton":
+                this.portalProvider = new SingletonPortalProvider();
+                break;
+            case "simple":
+                this.portalProvider = new SimplePortalProvider();
+                break;
+            case "threadLocal":
+                this.portalProvider = new ThreadLocalPortalProvider();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown provider: " + this.provider);
+        }
+    }
+
+    /**
+     * Fetch the provider under test.
+     *
+     * @return The shared {@link PortalProvider}.
+     */
+    public PortalProvider getProvider()
+    {
+        return this.portalProvider;
+    }
+}
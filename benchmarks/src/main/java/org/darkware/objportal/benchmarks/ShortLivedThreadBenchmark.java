@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.benchmarks;
+
+import org.darkware.objportal.PortalContextToken;
+import org.darkware.objportal.PortalProvider;
+import org.darkware.objportal.ScopedPortalProvider;
+import org.darkware.objportal.ThreadLocalPortalProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of giving each of many short-lived threads access to a shared context, comparing inherited
+ * thread tokens in the {@link ThreadLocalPortalProvider} with captured scopes in the {@link ScopedPortalProvider}.
+ * Each operation starts and joins {@code threads} threads which each perform one lookup.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShortLivedThreadBenchmark
+{
+    @Param({"threadLocal", "scoped"})
+    public String provider;
+
+    @Param({"1000"})
+    public int threads;
+
+    private PortalProvider portalProvider;
+    private ScopedPortalProvider scopedProvider;
+    private PortalContextToken token;
+
+    @Setup
+    public void setup()
+    {
+        if ("scoped".equals(this.provider))
+        {
+            this.scopedProvider = new ScopedPortalProvider();
+            this.portalProvider = this.scopedProvider;
+        }
+        else
+        {
+            ThreadLocalPortalProvider threadProvider = new ThreadLocalPortalProvider();
+            threadProvider.enableContextInheritance(true);
+            this.portalProvider = threadProvider;
+        }
+
+        this.token = this.portalProvider.requestNewContext();
+        this.portalProvider.getPortalContext(this.token).place(Integer.class, 42);
+    }
+
+    @Benchmark
+    public void startThreads() throws Exception
+    {
+        this.portalProvider.callIn(this.token, () -> {
+            final Thread[] workers = new Thread[this.threads];
+            for (int i = 0; i < workers.length; i++)
+            {
+                workers[i] = new Thread(this.task());
+                workers[i].start();
+            }
+            for (Thread worker : workers) worker.join();
+            return null;
+        });
+    }
+
+    /**
+     * Build the task run by each thread, carrying the current scope when the provider supports it.
+     *
+     * @return The task to run.
+     */
+    private Runnable task()
+    {
+        final Runnable lookup = () -> this.portalProvider.getPortalContext().take(Integer.class);
+
+        return (this.scopedProvider == null) ? lookup : this.scopedProvider.inCurrentScope(lookup);
+    }
+}
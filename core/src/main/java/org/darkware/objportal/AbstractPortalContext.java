@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.darkware.objportal.error.ObjectCreationError;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The {@code AbstractPortalContext} provides object creation and injection for {@link PortalContext}s, leaving only
+ * the storage of instances to subclasses. Dependencies are always resolved through {@link #take(Class)}, so each
+ * implementation is free to store its bindings in whatever structure suits it.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public abstract class AbstractPortalContext implements PortalContext
+{
+    private final ConcurrentMap<Class<?>, InstancePool> pools;
+    private volatile InjectorStrategy injectorStrategy;
+    private volatile boolean compiledInjectors;
+    private volatile PortalMetrics metrics;
+    private volatile String contextKey;
+
+    /**
+     * Creates a new context which injects through method handles by default.
+     */
+    protected AbstractPortalContext()
+    {
+        super();
+
+        this.pools = new ConcurrentHashMap<>();
+        this.injectorStrategy = MethodHandleInjectorStrategy.INSTANCE;
+        this.metrics = NoPortalMetrics.INSTANCE;
+    }
+
+    /**
+     * Copy the injection settings of another context into this one.
+     *
+     * @param source The context to copy settings from.
+     */
+    void copySettings(final AbstractPortalContext source)
+    {
+        this.injectorStrategy = source.injectorStrategy;
+        this.compiledInjectors = source.compiledInjectors;
+        this.metrics = source.metrics;
+    }
+
+    /**
+     * Record the key of the token this context was created or registered for, so that events can name the context. A
+     * context keeps the first key it is given. Only the key is kept, since holding the token itself would keep a
+     * reclaimable token reachable from its own context.
+     *
+     * @param token The {@link PortalContextToken} of the context.
+     */
+    void assignToken(final PortalContextToken token)
+    {
+        if (this.contextKey == null) this.contextKey = token.getTokenKey();
+    }
+
+    /**
+     * Fetch the key of the token this context was created or registered for by a {@link TokenizedPortalProvider}.
+     *
+     * @return The token key, or {@code null} if the context was not created by a provider.
+     */
+    public String getContextKey()
+    {
+        return this.contextKey;
+    }
+
+    /**
+     * Declare the {@link PortalMetrics} listener which this context reports to.
+     *
+     * @param listener The {@link PortalMetrics} to report to. Use {@link NoPortalMetrics#INSTANCE} to stop reporting.
+     */
+    public void useMetrics(final PortalMetrics listener)
+    {
+        if (listener == null) throw new IllegalArgumentException("Metrics listener cannot be null.");
+        this.metrics = listener;
+    }
+
+    /**
+     * Fetch the {@link PortalMetrics} listener which this context reports to.
+     *
+     * @return The current {@link PortalMetrics}.
+     */
+    public PortalMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    /**
+     * Build the future returned by {@link #takeAsync(Class)} for a binding found by a subclass. Asynchronous bindings
+     * which are still being built hand back their own future, while any other binding is read immediately through
+     * the given reader.
+     *
+     * @param type The requested class.
+     * @param binding The {@link Binding} found for the class, or {@code null} if there was none.
+     * @param reader A {@link Supplier} which reads the binding the same way {@link #take(Class)} would.
+     * @param <T> The declared type of the object.
+     * @return A {@link CompletableFuture} for the bound object.
+     */
+    final <T> CompletableFuture<T> futureOf(final Class<T> type, final Binding binding, final Supplier<T> reader)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        if (binding == null)
+        {
+            this.getMetrics().takeMiss(type);
+            future.completeExceptionally(new NoRegisteredInstanceError(type));
+            return future;
+        }
+
+        if (binding instanceof Binding.Async && !binding.isResolved()) return ((Binding.Async)binding).toFuture(type);
+
+        try
+        {
+            future.complete(reader.get());
+        }
+        catch (RuntimeException e)
+        {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Resolve a {@code Supplier}-backed binding on behalf of {@link #take(Class)}, reporting the resolution to this
+     * context's {@link PortalMetrics}.
+     *
+     * @param type The requested class.
+     * @param binding The unresolved {@link Binding}.
+     * @return The bound object.
+     */
+    final Object resolveDeferred(final Class<?> type, final Binding binding)
+    {
+        final Object event = PortalEvents.recorder.beginSupplierResolution();
+
+        final PortalMetrics listener = this.metrics;
+        final Object value;
+        if (!listener.isEnabled())
+        {
+            value = binding.get(type, this.contextKey);
+            listener.supplierResolved(type, 0L);
+        }
+        else
+        {
+            final long start = System.nanoTime();
+            value = binding.get(type, this.contextKey);
+            listener.supplierResolved(type, System.nanoTime() - start);
+        }
+
+        PortalEvents.recorder.commit(event, type, this.contextKey);
+
+        return value;
+    }
+
+    @Override
+    public <T> T newInstance(final Class<T> instanceClass)
+    {
+        final Object event = PortalEvents.recorder.beginNewInstance();
+
+        try
+        {
+            final InjectionPlan plan = InjectionPlan.forClass(instanceClass);
+            if (plan.getGeneratedInjector() != null) return instanceClass.cast(plan.getGeneratedInjector().newInstance(this));
+            if (this.compiledInjectors) return instanceClass.cast(this.createCompiled(plan));
+
+            final T instance = instanceClass.cast(plan.getInstanceFactory().create(this));
+            this.inject(plan, instance);
+
+            return instance;
+        }
+        catch (InstantiationException e)
+        {
+            throw new ObjectCreationError("Error while creating a new " + instanceClass.getName(), e);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new ObjectCreationError("Cannot access the default constructor for " + instanceClass.getName(), e);
+        }
+        catch (Exception e)
+        {
+            throw new ObjectCreationError("Exception while creating a new " + instanceClass.getName(), e);
+        }
+        catch (Throwable t)
+        {
+            throw new ObjectCreationError("Critical runtime error while creating a new " + instanceClass.getName(), t);
+        }
+        finally
+        {
+            PortalEvents.recorder.commit(event, instanceClass, this.contextKey);
+        }
+    }
+
+    /**
+     * Creates a new instance through the {@link CompiledInjector} for the given plan. All dependencies are resolved
+     * before the object is constructed.
+     *
+     * @param plan The {@link InjectionPlan} for the class to create.
+     * @return A new, fully injected instance.
+     * @throws Throwable Any error raised while resolving dependencies or creating the instance.
+     */
+    private Object createCompiled(final InjectionPlan plan) throws Throwable
+    {
+        final CompiledInjector injector = plan.getCompiledInjector();
+
+        final Object[] dependencies = new Object[injector.getDependencyCount()];
+        for (int i = 0; i < dependencies.length; i++) dependencies[i] = injector.resolveDependency(i, this);
+
+        return injector.create(dependencies);
+    }
+
+    /**
+     * Declare whether {@link #newInstance(Class)} should use {@link CompiledInjector}s, which fuse construction and
+     * injection into a single generated call chain. Compiling an injector has a one-time cost per class, so this is
+     * best suited to contexts which create a small set of classes at high volume.
+     *
+     * @param value {@code true} to create objects through compiled injectors, {@code false} to use the constructor
+     * followed by the configured {@link InjectorStrategy}.
+     */
+    public void enableCompiledInjectors(final boolean value)
+    {
+        this.compiledInjectors = value;
+    }
+
+    @Override
+    public <T> T newPooledInstance(final Class<T> instanceClass)
+    {
+        final InstancePool pool = this.pools.get(instanceClass);
+        final Object pooled = (pool == null) ? null : pool.poll();
+        if (pooled == null) return this.newInstance(instanceClass);
+
+        final T instance = instanceClass.cast(pooled);
+        this.inject(InjectionPlan.forClass(instanceClass), instance);
+
+        return instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only {@link Recyclable} objects may be pooled, since an object without a reset hook would carry its last
+     * borrower's state to the next one.
+     *
+     * @throws IllegalArgumentException If the object is {@code null} or not {@link Recyclable}.
+     * @throws IllegalStateException If the object has already been released and not handed out again.
+     */
+    @Override
+    public void release(final Object object)
+    {
+        if (!(object instanceof Recyclable))
+        {
+            throw new IllegalArgumentException("Only Recyclable objects can be released for pooling, not " +
+                                               ((object == null) ? "null" : object.getClass().getName()));
+        }
+        ((Recyclable)object).reset();
+
+        final Class<?> type = object.getClass();
+        InstancePool pool = this.pools.get(type);
+        if (pool == null) pool = this.pools.computeIfAbsent(type, key -> new InstancePool());
+
+        pool.offer(object);
+    }
+
+    @Override
+    public void autoInject(final Object object)
+    {
+        final InjectionPlan plan = InjectionPlan.forClass(object.getClass());
+        final Object event = PortalEvents.recorder.beginInjection();
+
+        final PortalMetrics listener = this.metrics;
+        if (!listener.isEnabled())
+        {
+            this.inject(plan, object);
+            listener.injected(plan.getTargetClass(), plan.getInjectedFieldCount(), 0L);
+        }
+        else
+        {
+            final long start = System.nanoTime();
+            this.inject(plan, object);
+            listener.injected(plan.getTargetClass(), plan.getInjectedFieldCount(), System.nanoTime() - start);
+        }
+
+        final int fieldCount = plan.getInjectedFieldCount();
+        PortalEvents.recorder.commitInjection(event, plan.getTargetClass(), this.contextKey, fieldCount);
+    }
+
+    @Override
+    public void autoInjectAll(final Iterable<?> objects)
+    {
+        final BatchInjector batch = new BatchInjector(this, this.contextKey, this.injectorStrategy, this.metrics);
+        for (Object object : objects) batch.inject(object);
+    }
+
+    @Override
+    public void autoInjectAll(final Object[] objects)
+    {
+        final BatchInjector batch = new BatchInjector(this, this.contextKey, this.injectorStrategy, this.metrics);
+        for (Object object : objects) batch.inject(object);
+    }
+
+    @Override
+    public void autoInjectAll(final Stream<?> objects)
+    {
+        final BatchInjector batch = new BatchInjector(this, this.contextKey, this.injectorStrategy, this.metrics);
+        objects.forEach(batch::inject);
+    }
+
+    /**
+     * Supplies values for the injected fields of every object in the given array, spreading the work across the
+     * given {@link ForkJoinPool}. Small arrays are injected by a single task. This returns once every object has
+     * been injected.
+     *
+     * @param objects The objects to inject values into.
+     * @param pool The {@link ForkJoinPool} to run the injection in.
+     */
+    public void autoInjectAll(final Object[] objects, final ForkJoinPool pool)
+    {
+        pool.invoke(new BatchInjector(this, this.contextKey, this.injectorStrategy, this.metrics).forkInjection(objects));
+    }
+
+    /**
+     * Injects dependencies into the given object according to a precomputed {@link InjectionPlan}.
+     *
+     * @param plan The {@link InjectionPlan} for the object's class.
+     * @param object The object to inject values into.
+     */
+    @SuppressWarnings("unchecked")
+    protected void inject(final InjectionPlan plan, final Object object)
+    {
+        if (plan.getGeneratedInjector() != null)
+        {
+            ((GeneratedInjector<Object>)plan.getGeneratedInjector()).inject(object, this);
+            return;
+        }
+
+        final FieldInjector[] injectors = plan.getInjectors(this.injectorStrategy);
+
+        for (int i = 0; i < injectors.length; i++)
+        {
+            final Object value = plan.resolveField(i, this);
+            if (plan.shouldInject(i, value)) injectors[i].inject(object, value);
+        }
+    }
+
+    @Override
+    public void useInjectorStrategy(final InjectorStrategy strategy)
+    {
+        if (strategy == null) throw new IllegalArgumentException("Injector strategy cannot be null.");
+        this.injectorStrategy = strategy;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@code BatchInjector} injects a batch of objects from a single {@link PortalContext}. The {@link InjectionPlan},
+ * field injectors and dependency values for each class are resolved the first time the class appears in the batch
+ * and reused for every later object of that class. Each object is reported to the batch's {@link PortalMetrics} and
+ * recorded as an {@link InjectionEvent}, just as {@link PortalContext#autoInject(Object)} would report it.
+ * <p>
+ * A {@code BatchInjector} may be shared by several threads injecting parts of the same batch.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+final class BatchInjector
+{
+    private static final int parallelThreshold = 1024;
+
+    private final PortalContext context;
+    private final String contextKey;
+    private final InjectorStrategy strategy;
+    private final PortalMetrics metrics;
+    private final ConcurrentMap<Class<?>, ClassBatch> batches;
+
+    /**
+     * Create a new injector for a single batch.
+     *
+     * @param context The {@link PortalContext} to resolve dependencies from.
+     * @param contextKey The token key of the context, or {@code null} if it is not known.
+     * @param strategy The {@link InjectorStrategy} used to write fields.
+     * @param metrics The {@link PortalMetrics} to report each injection to.
+     */
+    BatchInjector(final PortalContext context, final String contextKey, final InjectorStrategy strategy,
+                  final PortalMetrics metrics)
+    {
+        super();
+
+        this.context = context;
+        this.contextKey = contextKey;
+        this.strategy = strategy;
+        this.metrics = metrics;
+        this.batches = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Inject a single object of the batch.
+     *
+     * @param object The object to inject values into.
+     */
+    void inject(final Object object)
+    {
+        final Class<?> type = object.getClass();
+
+        ClassBatch batch = this.batches.get(type);
+        if (batch == null) batch = this.batches.computeIfAbsent(type, this::prepare);
+
+        batch.inject(object);
+    }
+
+    /**
+     * Create a {@link RecursiveAction} which injects every object of the given array, splitting the work across the
+     * pool it is invoked in.
+     *
+     * @param objects The objects to inject values into.
+     * @return A new {@link RecursiveAction}.
+     */
+    RecursiveAction forkInjection(final Object[] objects)
+    {
+        return new InjectRange(objects, 0, objects.length);
+    }
+
+    /**
+     * Resolve everything needed to inject objects of the given class.
+     *
+     * @param type The class to prepare.
+     * @return A new {@link ClassBatch}.
+     */
+    @SuppressWarnings("unchecked")
+    private ClassBatch prepare(final Class<?> type)
+    {
+        final InjectionPlan plan = InjectionPlan.forClass(type);
+        if (plan.getGeneratedInjector() != null)
+        {
+            return new ClassBatch(plan, (GeneratedInjector<Object>)plan.getGeneratedInjector(), null, null);
+        }
+
+        final FieldInjector[] fieldInjectors = plan.getInjectors(this.strategy);
+        final FieldInjector[] injectors = new FieldInjector[fieldInjectors.length];
+        final Object[] values = new Object[fieldInjectors.length];
+        int count = 0;
+        for (int i = 0; i < fieldInjectors.length; i++)
+        {
+            final Object value = plan.resolveField(i, this.context);
+            if (!plan.shouldInject(i, value)) continue;
+
+            injectors[count] = fieldInjectors[i];
+            values[count] = value;
+            count++;
+        }
+
+        if (count == fieldInjectors.length) return new ClassBatch(plan, null, injectors, values);
+
+        // Optional fields without an instance are left out entirely
+        return new ClassBatch(plan, null, Arrays.copyOf(injectors, count), Arrays.copyOf(values, count));
+    }
+
+    /**
+     * A {@code ClassBatch} holds the resolved injectors and dependency values for one class within the batch.
+     */
+    private final class ClassBatch
+    {
+        private final Class<?> type;
+        private final int fieldCount;
+        private final GeneratedInjector<Object> generated;
+        private final FieldInjector[] injectors;
+        private final Object[] values;
+
+        private ClassBatch(final InjectionPlan plan, final GeneratedInjector<Object> generated,
+                           final FieldInjector[] injectors, final Object[] values)
+        {
+            super();
+
+            this.type = plan.getTargetClass();
+            this.fieldCount = plan.getInjectedFieldCount();
+            this.generated = generated;
+            this.injectors = injectors;
+            this.values = values;
+        }
+
+        private void inject(final Object object)
+        {
+            final Object event = PortalEvents.recorder.beginInjection();
+
+            final PortalMetrics listener = BatchInjector.this.metrics;
+            if (!listener.isEnabled())
+            {
+                this.apply(object);
+                listener.injected(this.type, this.fieldCount, 0L);
+            }
+            else
+            {
+                final long start = System.nanoTime();
+                this.apply(object);
+                listener.injected(this.type, this.fieldCount, System.nanoTime() - start);
+            }
+
+            final String contextKey = BatchInjector.this.contextKey;
+            PortalEvents.recorder.commitInjection(event, this.type, contextKey, this.fieldCount);
+        }
+
+        private void apply(final Object object)
+        {
+            if (this.generated != null)
+            {
+                this.generated.inject(object, BatchInjector.this.context);
+                return;
+            }
+
+            for (int i = 0; i < this.injectors.length; i++) this.injectors[i].inject(object, this.values[i]);
+        }
+    }
+
+    /**
+     * An {@code InjectRange} injects a range of an array, splitting itself in half until ranges are small enough to
+     * inject directly.
+     */
+    private final class InjectRange extends RecursiveAction
+    {
+        private final Object[] objects;
+        private final int start;
+        private final int end;
+
+        private InjectRange(final Object[] objects, final int start, final int end)
+        {
+            super();
+
+            this.objects = objects;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (this.end - this.start <= BatchInjector.parallelThreshold)
+            {
+                for (int i = this.start; i < this.end; i++) BatchInjector.this.inject(this.objects[i]);
+                return;
+            }
+
+            final int middle = (this.start + this.end) >>> 1;
+            RecursiveAction.invokeAll(new InjectRange(this.objects, this.start, middle),
+                                      new InjectRange(this.objects, middle, this.end));
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.ObjectCreationError;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * A {@code Binding} is a single entry in a {@link PortalContext}'s store. It holds either an object placed directly
+ * in the context, or a {@link Supplier} which is resolved the first time the binding is read.
+ * <p>
+ * Reading a resolved binding never takes a lock. Supplier-backed bindings resolve exactly once, locking only the
+ * binding being resolved, so a slow {@code Supplier} never blocks readers of other bindings. Asynchronous bindings
+ * start their {@code Supplier} on an {@link Executor} as soon as they are bound, and readers wait on the resulting
+ * {@link CompletableFuture} rather than on a lock.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+abstract class Binding
+{
+    /**
+     * Create a binding for an object which is already available.
+     *
+     * @param value The object to bind.
+     * @return A new, resolved {@code Binding}.
+     */
+    static Binding of(final Object value)
+    {
+        return new Resolved(value);
+    }
+
+    /**
+     * Create a binding which resolves its object from a {@link Supplier} on first use.
+     *
+     * @param supplier The {@link Supplier} to create the object with.
+     * @return A new, unresolved {@code Binding}.
+     */
+    static Binding deferred(final Supplier<?> supplier)
+    {
+        return new Deferred(supplier);
+    }
+
+    /**
+     * Create a binding whose object is built in the background by a {@link Supplier} run on the given
+     * {@link Executor}. The {@code Supplier} is started immediately. If it fails, reads of the binding throw an
+     * {@link ObjectCreationError} carrying the failure.
+     *
+     * @param type The class the object is being bound under.
+     * @param supplier The {@link Supplier} to create the object with.
+     * @param executor The {@link Executor} to run the {@code Supplier} on.
+     * @return A new, unresolved {@code Binding}.
+     */
+    static Binding async(final Class<?> type, final Supplier<?> supplier, final Executor executor)
+    {
+        final CompletableFuture<Object> future = CompletableFuture.supplyAsync(supplier, executor).handle((value, error) ->
+        {
+            if (error == null) return value;
+
+            final Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+            throw new ObjectCreationError("Error while building an asynchronous binding for " + type.getName(), cause);
+        });
+
+        return new Async(future);
+    }
+
+    /**
+     * Fetch the bound object, resolving it if necessary.
+     *
+     * @return The bound object.
+     */
+    abstract Object get();
+
+    /**
+     * Fetch the bound object on behalf of a context, resolving it if necessary. The class and key are only used to
+     * describe any wait for another thread's resolution in a {@link BindingWaitEvent}.
+     *
+     * @param type The class the binding is bound under.
+     * @param contextKey The token key of the reading context, or {@code null} if it is not known.
+     * @return The bound object.
+     */
+    Object get(final Class<?> type, final String contextKey)
+    {
+        return this.get();
+    }
+
+    /**
+     * Checks whether the bound object is available without running a {@link Supplier}.
+     *
+     * @return {@code true} if {@link #get()} will not need to create the object.
+     */
+    abstract boolean isResolved();
+
+    /**
+     * A binding for an object which was available when it was bound.
+     */
+    static final class Resolved extends Binding
+    {
+        private final Object value;
+
+        private Resolved(final Object value)
+        {
+            super();
+
+            this.value = value;
+        }
+
+        @Override
+        Object get()
+        {
+            return this.value;
+        }
+
+        @Override
+        boolean isResolved()
+        {
+            return true;
+        }
+    }
+
+    /**
+     * A binding which creates its object from a {@link Supplier} the first time it is read.
+     */
+    static final class Deferred extends Binding
+    {
+        private static final Object unresolved = new Object();
+        /** The shortest lock acquisition, in nanoseconds, which is treated as having blocked on another thread. */
+        private static final long minimumWaitNanos = 1_000L;
+
+        private final Supplier<?> supplier;
+        private volatile Object value;
+
+        private Deferred(final Supplier<?> supplier)
+        {
+            super();
+
+            this.supplier = supplier;
+            this.value = Deferred.unresolved;
+        }
+
+        @Override
+        Object get()
+        {
+            final Object current = this.value;
+            if (current != Deferred.unresolved) return current;
+
+            return this.resolve(null, null);
+        }
+
+        @Override
+        Object get(final Class<?> type, final String contextKey)
+        {
+            final Object current = this.value;
+            if (current != Deferred.unresolved) return current;
+
+            return this.resolve(type, contextKey);
+        }
+
+        /**
+         * Run the {@link Supplier}, unless another thread has already done so. Threads resolving the same binding
+         * wait for the first one to finish. A {@link BindingWaitEvent} is only recorded when acquiring the lock took
+         * at least a microsecond, so a thread which finds the binding resolved without blocking is not reported.
+         *
+         * @param type The class the binding is bound under, or {@code null} if it is not known.
+         * @param contextKey The token key of the reading context, or {@code null} if it is not known.
+         * @return The resolved object.
+         */
+        private Object resolve(final Class<?> type, final String contextKey)
+        {
+            final Object wait = PortalEvents.recorder.beginBindingWait();
+            final long start = (wait != null) ? System.nanoTime() : 0L;
+
+            synchronized (this)
+            {
+                final long waited = (wait != null) ? System.nanoTime() - start : 0L;
+                PortalEvents.recorder.end(wait);
+
+                Object current = this.value;
+                if (current == Deferred.unresolved)
+                {
+                    current = this.supplier.get();
+                    this.value = current;
+                }
+                else if (waited >= Deferred.minimumWaitNanos) PortalEvents.recorder.commit(wait, type, contextKey);
+
+                return current;
+            }
+        }
+
+        @Override
+        boolean isResolved()
+        {
+            return this.value != Deferred.unresolved;
+        }
+    }
+
+    /**
+     * A binding whose object is built in the background and delivered through a {@link CompletableFuture}.
+     */
+    static final class Async extends Binding
+    {
+        private final CompletableFuture<Object> future;
+
+        private Async(final CompletableFuture<Object> future)
+        {
+            super();
+
+            this.future = future;
+        }
+
+        /**
+         * Fetch a future which completes with the bound object. The returned future is a dependent of the binding's
+         * own future, so completing or cancelling it has no effect on the binding.
+         *
+         * @param type The class the binding is read as.
+         * @param <T> The declared type of the object.
+         * @return A {@link CompletableFuture} for the bound object.
+         */
+        <T> CompletableFuture<T> toFuture(final Class<T> type)
+        {
+            return this.future.thenApply(type::cast);
+        }
+
+        @Override
+        Object get()
+        {
+            try
+            {
+                return this.future.join();
+            }
+            catch (CompletionException e)
+            {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException)e.getCause();
+                throw e;
+            }
+        }
+
+        @Override
+        boolean isResolved()
+        {
+            return this.future.isDone();
+        }
+    }
+}
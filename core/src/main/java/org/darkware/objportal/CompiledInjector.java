@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * A {@code CompiledInjector} fuses object construction and field injection for a single class into one
+ * {@link MethodHandle} chain. The chain calls the class's constructor directly and then stores the remaining entries
+ * of a resolved dependency array into its fields. Dependencies are ordered with the constructor arguments first,
+ * followed by the injected fields in {@link InjectionPlan} order.
+ * <p>
+ * Creating an object is a single {@code invokeExact} call on the chain, with no reflective {@code Constructor} or
+ * {@code Field} access and no per-field dispatch through the caller. The chain is held in an instance field and
+ * looked up per class, so the JIT cannot treat it as a constant: the call into it is an indirect call which is not
+ * inlined into the caller, although the steps within the chain are compiled together once it becomes hot. Building
+ * the chain has a noticeable one-time cost, which is why compiled injection is opt-in through
+ * {@link SimplePortalContext#enableCompiledInjectors(boolean)}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class CompiledInjector
+{
+    private static final MethodType factoryType = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandle arrayElement = MethodHandles.arrayElementGetter(Object[].class);
+    private static final MethodHandle passInstance = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, Object[].class);
+    private static final MethodHandle injectorCall;
+    private static final MethodHandle hasValue;
+    private static final MethodHandle skipValue;
+
+    static
+    {
+        try
+        {
+            injectorCall = MethodHandles.publicLookup().findVirtual(FieldInjector.class, "inject", CompiledInjector.setterType);
+            hasValue = MethodHandles.dropArguments(
+                    MethodHandles.publicLookup().findStatic(Objects.class, "nonNull", MethodType.methodType(boolean.class, Object.class)),
+                    0, Object.class);
+            skipValue = MethodHandles.lookup().findStatic(CompiledInjector.class, "skip", CompiledInjector.setterType);
+        }
+        catch (NoSuchMethodException | IllegalAccessException e)
+        {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> targetClass;
+    private final Class<?>[] dependencyTypes;
+    private final boolean[] lazyDependencies;
+    private final boolean[] optionalDependencies;
+    private final MethodHandle factory;
+
+    /**
+     * Compile a new injector for the class described by the given {@link InjectionPlan}.
+     *
+     * @param plan The {@link InjectionPlan} to compile.
+     * @throws InstantiationException If the class has no usable constructor or cannot be instantiated.
+     * @throws IllegalAccessException If the constructor is not accessible.
+     */
+    CompiledInjector(final InjectionPlan plan) throws InstantiationException, IllegalAccessException
+    {
+        super();
+
+        final InstanceFactory instanceFactory = plan.getInstanceFactory();
+        final int argumentCount = instanceFactory.getParameterCount();
+
+        this.targetClass = plan.getTargetClass();
+        this.dependencyTypes = new Class<?>[argumentCount + plan.getFieldCount()];
+        for (int i = 0; i < argumentCount; i++) this.dependencyTypes[i] = instanceFactory.getParameterType(i);
+        this.lazyDependencies = new boolean[this.dependencyTypes.length];
+        this.optionalDependencies = new boolean[this.dependencyTypes.length];
+        for (int i = 0; i < plan.getFieldCount(); i++)
+        {
+            this.dependencyTypes[argumentCount + i] = plan.getFieldType(i);
+            this.lazyDependencies[argumentCount + i] = plan.isLazy(i);
+            this.optionalDependencies[argumentCount + i] = plan.isOptional(i) && !plan.isLazy(i);
+        }
+
+        // Read each constructor argument from its slot in the dependency array
+        MethodHandle chain = instanceFactory.getConstructor();
+        for (int i = 0; i < argumentCount; i++)
+        {
+            chain = MethodHandles.filterArguments(chain, i, MethodHandles.insertArguments(CompiledInjector.arrayElement, 1, i));
+        }
+        chain = argumentCount == 0
+                ? MethodHandles.dropArguments(chain, 0, Object[].class)
+                : MethodHandles.permuteArguments(chain, CompiledInjector.factoryType, new int[argumentCount]);
+
+        for (int i = 0; i < plan.getFieldCount(); i++)
+        {
+            final MethodHandle element = MethodHandles.insertArguments(CompiledInjector.arrayElement, 1, argumentCount + i);
+            MethodHandle setter = CompiledInjector.setter(plan.getField(i));
+            if (this.optionalDependencies[argumentCount + i])
+            {
+                // Optional fields without an instance keep whatever the constructor assigned
+                setter = MethodHandles.guardWithTest(CompiledInjector.hasValue, setter, CompiledInjector.skipValue);
+            }
+            final MethodHandle store = MethodHandles.filterArguments(setter, 1, element);
+
+            chain = MethodHandles.foldArguments(MethodHandles.foldArguments(CompiledInjector.passInstance, store), chain);
+        }
+
+        this.factory = chain.asType(CompiledInjector.factoryType);
+    }
+
+    /**
+     * Fetch the class this injector creates.
+     *
+     * @return The target {@link Class}.
+     */
+    public Class<?> getTargetClass()
+    {
+        return this.targetClass;
+    }
+
+    /**
+     * Fetch the number of dependencies this injector expects.
+     *
+     * @return The length of the dependency array expected by {@link #create(Object[])}.
+     */
+    public int getDependencyCount()
+    {
+        return this.dependencyTypes.length;
+    }
+
+    /**
+     * Fetch the type of one of the dependencies this injector expects. This is the type which is used to resolve
+     * the dependency value.
+     *
+     * @param index The index of the dependency.
+     * @return The declared {@link Class} of the dependency.
+     */
+    public Class<?> getDependencyType(final int index)
+    {
+        return this.dependencyTypes[index];
+    }
+
+    /**
+     * Resolve the value for one of the dependencies this injector expects. Lazy field dependencies resolve to a new
+     * {@link LazyDependency} and optional ones may resolve to {@code null}, while all others are taken directly from
+     * the context.
+     *
+     * @param index The index of the dependency.
+     * @param context The {@link PortalContext} to resolve the value against.
+     * @return The value to place in the dependency array.
+     */
+    Object resolveDependency(final int index, final PortalContext context)
+    {
+        if (this.lazyDependencies[index]) return new LazyDependency<>(context, this.dependencyTypes[index]);
+        if (this.optionalDependencies[index]) return context.takeOrNull(this.dependencyTypes[index]);
+
+        return context.take(this.dependencyTypes[index]);
+    }
+
+    /**
+     * Create a new instance of the target class and store the given dependencies into its injectable fields.
+     *
+     * @param dependencies The resolved dependencies: constructor arguments followed by fields.
+     * @return The new, fully injected instance.
+     * @throws Throwable Any exception thrown by the constructor, or an error thrown while storing a value.
+     */
+    public Object create(final Object[] dependencies) throws Throwable
+    {
+        return (Object)this.factory.invokeExact(dependencies);
+    }
+
+    /**
+     * Discard a missing value for an optional field.
+     *
+     * @param target The object being injected.
+     * @param value The missing value.
+     */
+    @SuppressWarnings("unused")
+    private static void skip(final Object target, final Object value)
+    {
+    }
+
+    /**
+     * Create a setter handle for the given field. Fields which cannot be written through a setter handle are routed
+     * through a reflective {@link FieldInjector} instead.
+     *
+     * @param field The field to create the setter for.
+     * @return A {@link MethodHandle} with the type {@code (Object, Object)void}.
+     */
+    private static MethodHandle setter(final Field field)
+    {
+        try
+        {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) setter = MethodHandles.dropArguments(setter, 0, Object.class);
+
+            return setter.asType(CompiledInjector.setterType);
+        }
+        catch (IllegalAccessException e)
+        {
+            return CompiledInjector.injectorCall.bindTo(ReflectionInjectorStrategy.INSTANCE.createInjector(field));
+        }
+    }
+}
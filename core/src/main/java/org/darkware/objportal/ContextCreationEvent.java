@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A {@code ContextCreationEvent} records the creation of a context by a {@link TokenizedPortalProvider}. Its target class is the class of the new context.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@Name("org.darkware.objportal.ContextCreation")
+@Label("Context Creation")
+@Description("Creation of a context for a new token")
+final class ContextCreationEvent extends PortalEvent
+{
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A {@code ContextTemplate} holds a fixed set of bindings from which new {@link SimplePortalContext}s can be created
+ * in constant time. Every context created from the template starts with the template's bindings, but does not copy
+ * them: the template's bindings are shared, and each new context only stores the bindings placed into it afterwards.
+ * <p>
+ * Templates are immutable. Objects placed in the template, and objects created by its {@link Supplier}s, are shared by
+ * every context created from it, so the template is best suited to bindings which are the same for every context.
+ * Contexts created from a template read the template's bindings directly and never copy them, so creating a context
+ * and using the template's bindings from it adds no per-context entries. The template's table already holds every
+ * binding of the source context's parent chain, so a lookup which misses in a created context costs a single probe
+ * into the template, no matter how deep the source chain was.
+ * <p>
+ * A template shares its {@code Supplier}-backed bindings with the context it was built from. Each supplier still runs
+ * at most once, and the object it creates is seen by the source context and by every context created from the
+ * template, whichever of them reads it first.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class ContextTemplate
+{
+    private final SimplePortalContext base;
+
+    /**
+     * Create a new template holding the given bindings.
+     *
+     * @param base The private context holding the template's bindings. This must never be modified.
+     */
+    private ContextTemplate(final SimplePortalContext base)
+    {
+        super();
+
+        this.base = base;
+    }
+
+    /**
+     * Create a template from a snapshot of the bindings currently visible from the given context, including any it
+     * inherits from its parents. Later changes to the source context are not reflected in the template, but bindings
+     * backed by a {@link Supplier} are shared with the source context rather than copied, so the source context and
+     * the template's contexts share the object the supplier creates.
+     *
+     * @param source The context to copy bindings and injection settings from.
+     * @return A new {@code ContextTemplate}.
+     */
+    public static ContextTemplate of(final SimplePortalContext source)
+    {
+        final Map<Class<?>, Binding> snapshot = new HashMap<>();
+        source.collectBindings(snapshot);
+
+        final SimplePortalContext base = new SimplePortalContext();
+        base.copySettings(source);
+        for (Map.Entry<Class<?>, Binding> entry : snapshot.entrySet()) base.bind(entry.getKey(), entry.getValue());
+        base.seal();
+
+        return new ContextTemplate(base);
+    }
+
+    /**
+     * Create a new context which starts with the bindings of this template. Bindings placed into the new
+     * context are local to it and never affect the template or other contexts.
+     *
+     * @return A new {@link SimplePortalContext}.
+     */
+    public SimplePortalContext newContext()
+    {
+        final SimplePortalContext context = new SimplePortalContext(this.base);
+        context.copySettings(this.base);
+
+        return context;
+    }
+
+    /**
+     * Checks if this template has a binding for the given class.
+     *
+     * @param queryClass The class to check.
+     * @return {@code true} if the template has a binding, otherwise {@code false}.
+     */
+    public boolean hasInstance(final Class<?> queryClass)
+    {
+        return this.base.hasInstance(queryClass);
+    }
+}
@@ -17,8 +17,6 @@
 
 package org.darkware.objportal;
 
-import com.google.common.base.Objects;
-
 /**
  * The {@code DefaultContextToken} class provides base implementations for the {@link PortalContextToken}
  * interface, including some behaviors that should simplify implementations.
@@ -61,7 +59,8 @@ public abstract class DefaultContextToken implements PortalContextToken
     @Override
     public final boolean equals(final Object that)
     {
-        if (that == null) return false;
+        if (this == that) return true;
+        if (that instanceof NumericContextToken) return false;
         if (that instanceof PortalContextToken)
         {
             PortalContextToken thatToken = (PortalContextToken)that;
@@ -74,6 +73,6 @@ public abstract class DefaultContextToken implements PortalContextToken
     @Override
     public final int hashCode()
     {
-        return Objects.hashCode(this.getTokenKey());
+        return this.getTokenKey().hashCode();
     }
 }
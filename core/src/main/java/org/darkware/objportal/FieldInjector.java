@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.InjectionError;
+
+/**
+ * A {@code FieldInjector} writes injected values into a single field. Injectors are created once per field by an
+ * {@link InjectorStrategy} and then reused for every injection into that field.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface FieldInjector
+{
+    /**
+     * Store the given value into the field on the target object.
+     *
+     * @param target The object to inject the value into.
+     * @param value The value to inject.
+     * @throws InjectionError If the value could not be stored.
+     */
+    void inject(Object target, Object value);
+}
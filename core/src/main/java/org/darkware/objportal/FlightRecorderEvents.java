@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.darkware.objportal;
+
+/**
+ * The {@link PortalEvents} recorder which emits {@link PortalEvent}s to Java Flight Recorder. This is the only class
+ * which creates events, and it is only loaded once {@link PortalEvents} has found {@code jdk.jfr} in the runtime.
+ * <p>
+ * Events which no recording has enabled are dropped as soon as they are created, so the JIT can remove their
+ * allocation entirely.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+final class FlightRecorderEvents extends PortalEvents
+{
+    /**
+     * Create the recorder. This is called reflectively by {@link PortalEvents}.
+     */
+    FlightRecorderEvents()
+    {
+        super();
+    }
+
+    /**
+     * Begin timing an event if it is enabled.
+     *
+     * @param event The new event.
+     * @return The event, or {@code null} if it is disabled.
+     */
+    private static Object begin(final PortalEvent event)
+    {
+        if (!event.isEnabled()) return null;
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    Object beginNewInstance()
+    {
+        return FlightRecorderEvents.begin(new NewInstanceEvent());
+    }
+
+    @Override
+    Object beginInjection()
+    {
+        return FlightRecorderEvents.begin(new InjectionEvent());
+    }
+
+    @Override
+    Object beginSupplierResolution()
+    {
+        return FlightRecorderEvents.begin(new SupplierResolutionEvent());
+    }
+
+    @Override
+    Object beginContextCreation()
+    {
+        return FlightRecorderEvents.begin(new ContextCreationEvent());
+    }
+
+    @Override
+    Object beginBindingWait()
+    {
+        return FlightRecorderEvents.begin(new BindingWaitEvent());
+    }
+
+    @Override
+    void end(final Object event)
+    {
+        if (event != null) ((PortalEvent)event).end();
+    }
+
+    @Override
+    void commit(final Object event, final Class<?> type, final String contextKey)
+    {
+        if (event != null) ((PortalEvent)event).commit(type, contextKey);
+    }
+
+    @Override
+    void commitInjection(final Object event, final Class<?> type, final String contextKey, final int fieldCount)
+    {
+        if (event == null) return;
+
+        final InjectionEvent injection = (InjectionEvent)event;
+        injection.fieldCount = fieldCount;
+        injection.commit(type, contextKey);
+    }
+}
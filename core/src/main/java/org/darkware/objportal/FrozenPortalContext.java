@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.FrozenContextError;
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * A {@code FrozenPortalContext} is an immutable snapshot of another context's bindings, built by
+ * {@link SimplePortalContext#freeze()}. It suits applications which place all of their bindings at startup and only
+ * read them afterwards.
+ * <p>
+ * Bindings are held in a small open-addressed table built for the snapshot alone, keyed by class identity and sized
+ * by the number of bindings. The table is never modified, so lookups need no synchronization at all. Any attempt to
+ * place an instance fails with a {@link FrozenContextError}. Use {@link #thaw()} to get a mutable copy to build a
+ * successor from.
+ * <p>
+ * Bindings backed by a {@link Supplier} stay lazy and are shared with the context they were frozen from, so each
+ * supplier still runs at most once.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class FrozenPortalContext extends AbstractPortalContext
+{
+    private final Class<?>[] types;
+    private final Binding[] slots;
+    private final int mask;
+
+    /**
+     * Creates a new frozen context from a snapshot of bindings.
+     *
+     * @param source The context the bindings came from, whose injection settings are copied.
+     * @param bindings The bindings to freeze.
+     */
+    FrozenPortalContext(final AbstractPortalContext source, final Map<Class<?>, Binding> bindings)
+    {
+        super();
+
+        this.copySettings(source);
+
+        // Keep the table at most half full, so every probe sequence ends at an empty slot.
+        int capacity = 2;
+        while (capacity < bindings.size() * 2) capacity *= 2;
+
+        this.types = new Class<?>[capacity];
+        this.slots = new Binding[capacity];
+        this.mask = capacity - 1;
+
+        for (Map.Entry<Class<?>, Binding> entry : bindings.entrySet())
+        {
+            int i = FrozenPortalContext.mix(entry.getKey()) & this.mask;
+            while (this.types[i] != null) i = (i + 1) & this.mask;
+
+            this.types[i] = entry.getKey();
+            this.slots[i] = entry.getValue();
+        }
+    }
+
+    /**
+     * Spread the identity hash of a class over the table index bits.
+     *
+     * @param type The class to hash.
+     * @return The mixed hash.
+     */
+    private static int mix(final Class<?> type)
+    {
+        final int h = System.identityHashCode(type) * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Find the binding for the given class.
+     *
+     * @param queryClass The class to look up.
+     * @return The {@link Binding}, or {@code null} if the class is not bound.
+     */
+    private Binding findBinding(final Class<?> queryClass)
+    {
+        final Class<?>[] types = this.types;
+
+        for (int i = FrozenPortalContext.mix(queryClass) & this.mask; ; i = (i + 1) & this.mask)
+        {
+            final Class<?> type = types[i];
+            if (type == queryClass) return this.slots[i];
+            if (type == null) return null;
+        }
+    }
+
+    /**
+     * Create a new, mutable {@link SimplePortalContext} holding the same bindings as this context. Changes to the
+     * copy do not affect this context.
+     *
+     * @return A new {@link SimplePortalContext}.
+     */
+    public SimplePortalContext thaw()
+    {
+        final SimplePortalContext copy = new SimplePortalContext();
+        copy.copySettings(this);
+
+        for (int i = 0; i < this.types.length; i++)
+        {
+            if (this.types[i] != null) copy.bind(this.types[i], this.slots[i]);
+        }
+
+        return copy;
+    }
+
+    @Override
+    public boolean hasInstance(final Class<?> queryClass)
+    {
+        return this.findBinding(queryClass) != null;
+    }
+
+    @Override
+    public <T> T take(final Class<T> queryClass)
+    {
+        final Binding binding = this.findBinding(queryClass);
+        if (binding == null)
+        {
+            this.getMetrics().takeMiss(queryClass);
+            throw new NoRegisteredInstanceError(queryClass);
+        }
+
+        return this.read(queryClass, binding);
+    }
+
+    @Override
+    public <T> T takeOrNull(final Class<T> queryClass)
+    {
+        final Binding binding = this.findBinding(queryClass);
+        if (binding == null)
+        {
+            this.getMetrics().takeMiss(queryClass);
+            return null;
+        }
+
+        return this.read(queryClass, binding);
+    }
+
+    /**
+     * Read the object from a binding, resolving its {@code Supplier} if needed.
+     *
+     * @param queryClass The class the binding was found for.
+     * @param binding The {@link Binding} to read.
+     * @param <T> The declared type of the object.
+     * @return The bound object.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(final Class<T> queryClass, final Binding binding)
+    {
+        if (binding.isResolved())
+        {
+            this.getMetrics().takeHit(queryClass);
+            return (T)binding.get();
+        }
+
+        return (T)this.resolveDeferred(queryClass, binding);
+    }
+
+    @Override
+    public <T> void place(final Class<T> instanceClass, final T object)
+    {
+        throw new FrozenContextError(instanceClass);
+    }
+
+    @Override
+    public <T> void place(final Class<T> instanceClass, final Supplier<? extends T> supplier)
+    {
+        throw new FrozenContextError(instanceClass);
+    }
+
+    @Override
+    public <T> void placeAsync(final Class<T> instanceClass, final Supplier<? extends T> supplier, final Executor executor)
+    {
+        throw new FrozenContextError(instanceClass);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> takeAsync(final Class<T> queryClass)
+    {
+        final Binding binding = this.findBinding(queryClass);
+
+        return this.futureOf(queryClass, binding, () -> this.read(queryClass, binding));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+/**
+ * A {@code GeneratedInjector} is a reflection-free injector for a single class, generated at build time by the
+ * ObjectPortal annotation processor. Generated injectors call the class's constructor and assign its injectable
+ * fields directly, resolving each value from the supplied {@link PortalContext}.
+ * <p>
+ * Generated injectors are located through an {@link InjectorIndex}. When an injector is available for a class, its
+ * {@link InjectionPlan} uses it in place of reflection.
+ *
+ * @param <T> The type of object the injector handles.
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public interface GeneratedInjector<T>
+{
+    /**
+     * Fetch the class this injector handles.
+     *
+     * @return The target {@link Class}.
+     */
+    Class<T> getTargetClass();
+
+    /**
+     * Create a new instance of the target class and inject its dependencies.
+     *
+     * @param context The {@link PortalContext} to resolve dependencies against.
+     * @return A new, fully injected instance.
+     */
+    T newInstance(PortalContext context);
+
+    /**
+     * Inject dependencies into an existing instance of the target class.
+     *
+     * @param target The object to inject dependencies into.
+     * @param context The {@link PortalContext} to resolve dependencies against.
+     */
+    void inject(T target, PortalContext context);
+
+    /**
+     * Fetch the number of fields this injector assigns, including those declared by ancestor classes. The count is
+     * reported to {@link PortalMetrics} in place of a reflective field count.
+     *
+     * @return The number of injected fields.
+     */
+    int getFieldCount();
+}
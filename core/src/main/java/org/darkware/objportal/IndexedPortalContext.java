@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * An {@code IndexedPortalContext} is a {@link PortalContext} which stores its bindings in an array indexed by the
+ * dense id each bound {@link Class} receives. Fetching an instance is a bounds check and an array load, with no
+ * hashing or probing, which makes this a good fit for contexts that inject many fields per object created.
+ * <p>
+ * Lookups never lock. Placing an instance takes a lock on the context, since the array may need to grow. Like the
+ * {@link SimplePortalContext}, a binding backed by a {@link Supplier} is resolved exactly once.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class IndexedPortalContext extends AbstractPortalContext
+{
+    private static final int initialCapacity = 16;
+
+    private volatile AtomicReferenceArray<Binding> slots;
+
+    /**
+     * Creates a new, empty context.
+     */
+    public IndexedPortalContext()
+    {
+        super();
+
+        this.slots = new AtomicReferenceArray<>(IndexedPortalContext.initialCapacity);
+    }
+
+    /**
+     * Fetch the binding stored under the given type id.
+     *
+     * @param id The type id, or {@code -1} for a class which has never been bound.
+     * @return The {@link Binding}, or {@code null} if nothing is bound.
+     */
+    private Binding getBinding(final int id)
+    {
+        final AtomicReferenceArray<Binding> slots = this.slots;
+
+        return (id >= 0 && id < slots.length()) ? slots.get(id) : null;
+    }
+
+    /**
+     * Store a binding under the given class, growing the slot array if needed.
+     *
+     * @param type The class to bind.
+     * @param binding The {@link Binding} to store.
+     */
+    private synchronized void setBinding(final Class<?> type, final Binding binding)
+    {
+        final int id = TypeIndex.of(type);
+        AtomicReferenceArray<Binding> slots = this.slots;
+
+        if (id >= slots.length())
+        {
+            final AtomicReferenceArray<Binding> larger = new AtomicReferenceArray<>(Math.max(slots.length() * 2, id + 1));
+            for (int i = 0; i < slots.length(); i++) larger.set(i, slots.get(i));
+
+            slots = larger;
+            this.slots = larger;
+        }
+
+        slots.set(id, binding);
+    }
+
+    @Override
+    public boolean hasInstance(final Class<?> queryClass)
+    {
+        return this.getBinding(TypeIndex.find(queryClass)) != null;
+    }
+
+    @Override
+    public <T> T take(final Class<T> queryClass)
+    {
+        final int id = TypeIndex.find(queryClass);
+        final Binding binding = this.getBinding(id);
+        if (binding == null)
+        {
+            this.getMetrics().takeMiss(queryClass);
+            throw new NoRegisteredInstanceError(queryClass);
+        }
+
+        return this.read(queryClass, id, binding);
+    }
+
+    @Override
+    public <T> T takeOrNull(final Class<T> queryClass)
+    {
+        final int id = TypeIndex.find(queryClass);
+        final Binding binding = this.getBinding(id);
+        if (binding == null)
+        {
+            this.getMetrics().takeMiss(queryClass);
+            return null;
+        }
+
+        return this.read(queryClass, id, binding);
+    }
+
+    /**
+     * Read the object from the binding in the given slot, resolving its {@code Supplier} if needed.
+     *
+     * @param queryClass The class the binding was found for.
+     * @param id The index of the class.
+     * @param binding The {@link Binding} to read.
+     * @param <T> The declared type of the object.
+     * @return The bound object.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(final Class<T> queryClass, final int id, final Binding binding)
+    {
+        if (binding.isResolved())
+        {
+            this.getMetrics().takeHit(queryClass);
+            return (T)binding.get();
+        }
+
+        final T instanceObject = (T)this.resolveDeferred(queryClass, binding);
+
+        // Swap in a plain binding so the Supplier can be released, unless the binding was replaced meanwhile.
+        this.slots.compareAndSet(id, binding, Binding.of(instanceObject));
+
+        return instanceObject;
+    }
+
+    @Override
+    public <T> void place(final Class<T> instanceClass, final T object)
+    {
+        this.setBinding(instanceClass, Binding.of(object));
+    }
+
+    @Override
+    public <T> void place(final Class<T> instanceClass, final Supplier<? extends T> supplier)
+    {
+        this.setBinding(instanceClass, Binding.deferred(supplier));
+    }
+
+    @Override
+    public <T> void placeAsync(final Class<T> instanceClass, final Supplier<? extends T> supplier, final Executor executor)
+    {
+        this.setBinding(instanceClass, Binding.async(instanceClass, supplier, executor));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> takeAsync(final Class<T> queryClass)
+    {
+        final int id = TypeIndex.find(queryClass);
+        final Binding binding = this.getBinding(id);
+
+        return this.futureOf(queryClass, binding, () -> this.read(queryClass, id, binding));
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * An {@code InjectionPlan} is an immutable, precomputed description of how dependencies are injected into instances
+ * of a single class. Plans are built once per class, the first time they are requested, and then cached for the
+ * lifetime of the class.
+ * <p>
+ * The cache is held in a {@link ClassValue}, which attaches each plan to its {@link Class} rather than to a global
+ * map. This keeps plans from pinning their classes in memory, so classes (and their class loaders) remain free to
+ * unload.
+ * <p>
+ * Fields declared as a {@link Provider} or {@link Supplier} of a concrete type are injected lazily. They receive a
+ * {@link LazyDependency} handle which resolves the dependency on its first use rather than during injection. Fields
+ * marked with {@link OptionalInject} are skipped when the context has no instance for them.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class InjectionPlan
+{
+    private static final ClassValue<InjectionPlan> plans = new ClassValue<InjectionPlan>()
+    {
+        @Override
+        protected InjectionPlan computeValue(final Class<?> type)
+        {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private final Class<?> targetClass;
+    private final GeneratedInjector<?> generatedInjector;
+    private final Field[] fields;
+    private final Class<?>[] fieldTypes;
+    private final boolean[] lazyFields;
+    private final boolean[] optionalFields;
+
+    private final Map<InjectorStrategy, InjectorCache> injectors;
+    private volatile InjectorCache lastInjectors;
+    private volatile InstanceFactory instanceFactory;
+    private volatile CompiledInjector compiledInjector;
+
+    /**
+     * Fetch the {@code InjectionPlan} for the given class, building it if this is the first request for the class.
+     *
+     * @param targetClass The class to fetch the plan for.
+     * @return The {@code InjectionPlan} for the class.
+     */
+    public static InjectionPlan forClass(final Class<?> targetClass)
+    {
+        return InjectionPlan.plans.get(targetClass);
+    }
+
+    /**
+     * Creates a new plan for the given class. If a {@link GeneratedInjector} is registered for the class, it is used
+     * and no reflection is performed. Otherwise, the class and all of its ancestor classes are searched for fields
+     * marked with {@link Inject}.
+     *
+     * @param targetClass The class to build the plan for.
+     */
+    private InjectionPlan(final Class<?> targetClass)
+    {
+        super();
+
+        this.targetClass = targetClass;
+        this.generatedInjector = InjectorIndexes.find(targetClass);
+
+        final List<Field> found = new ArrayList<>();
+        if (this.generatedInjector == null) InjectionPlan.collectFields(targetClass, found);
+
+        this.fields = found.toArray(new Field[found.size()]);
+        this.fieldTypes = new Class<?>[this.fields.length];
+        this.lazyFields = new boolean[this.fields.length];
+        this.optionalFields = new boolean[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++)
+        {
+            this.optionalFields[i] = this.fields[i].isAnnotationPresent(OptionalInject.class);
+            final Class<?> lazyType = InjectionPlan.lazyType(this.fields[i]);
+            this.lazyFields[i] = lazyType != null;
+            this.fieldTypes[i] = this.lazyFields[i] ? lazyType : this.fields[i].getType();
+        }
+
+        this.injectors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Collect the injectable fields for a class. Fields are ordered from the most distant ancestor down to the class
+     * itself, and are made accessible as they are collected. Ancestor fields are taken from the ancestor's plan,
+     * unless that plan uses a {@link GeneratedInjector} and so holds no fields of its own.
+     *
+     * @param type The class to collect fields for.
+     * @param found The {@link List} to add the fields to.
+     */
+    private static void collectFields(final Class<?> type, final List<Field> found)
+    {
+        final Class<?> parentClass = type.getSuperclass();
+        if (parentClass != null && !parentClass.equals(Object.class))
+        {
+            final InjectionPlan parentPlan = InjectionPlan.forClass(parentClass);
+            if (parentPlan.generatedInjector == null) Collections.addAll(found, parentPlan.fields);
+            else InjectionPlan.collectFields(parentClass, found);
+        }
+
+        for (final Field field : type.getDeclaredFields())
+        {
+            if (field.getDeclaredAnnotation(Inject.class) == null) continue;
+
+            field.setAccessible(true);
+            found.add(field);
+        }
+    }
+
+    /**
+     * Determine the dependency type of a lazily injected field. A field is lazy when it is declared as a
+     * {@link Provider} or {@link Supplier} whose type argument is a class or interface type. Raw, wildcard and array
+     * declarations are left to be injected as ordinary fields, matching the rule used by the annotation processor.
+     *
+     * @param field The field to inspect.
+     * @return The type supplied by the field, or {@code null} if the field is not lazy.
+     */
+    static Class<?> lazyType(final Field field)
+    {
+        if (field.getType() != Provider.class && field.getType() != Supplier.class) return null;
+
+        final Type declared = field.getGenericType();
+        if (!(declared instanceof ParameterizedType)) return null;
+
+        final Type argument = ((ParameterizedType)declared).getActualTypeArguments()[0];
+        if (argument instanceof Class) return ((Class<?>)argument).isArray() ? null : (Class<?>)argument;
+        if (argument instanceof ParameterizedType) return (Class<?>)((ParameterizedType)argument).getRawType();
+
+        return null;
+    }
+
+    /**
+     * Fetch the class this plan describes.
+     *
+     * @return The target {@link Class}.
+     */
+    public Class<?> getTargetClass()
+    {
+        return this.targetClass;
+    }
+
+    /**
+     * Fetch the {@link GeneratedInjector} registered for this plan's class, if any. When a generated injector is
+     * present, the plan holds no fields and all injection is delegated to the generated code.
+     *
+     * @return The {@link GeneratedInjector}, or {@code null} if the class is injected reflectively.
+     */
+    public GeneratedInjector<?> getGeneratedInjector()
+    {
+        return this.generatedInjector;
+    }
+
+    /**
+     * Fetch the number of fields which are injected by this plan.
+     *
+     * @return The number of injectable fields.
+     */
+    public int getFieldCount()
+    {
+        return this.fields.length;
+    }
+
+    /**
+     * Fetch the number of fields an injection with this plan assigns. This matches {@link #getFieldCount()} for
+     * reflectively injected classes, and is taken from the {@link GeneratedInjector} when one is present.
+     *
+     * @return The number of injected fields.
+     */
+    public int getInjectedFieldCount()
+    {
+        return (this.generatedInjector == null) ? this.fields.length : this.generatedInjector.getFieldCount();
+    }
+
+    /**
+     * Fetch one of the injectable fields. The returned {@link Field} has already been made accessible.
+     *
+     * @param index The index of the field, from zero to {@link #getFieldCount()} (exclusive).
+     * @return The {@link Field} at the given index.
+     */
+    public Field getField(final int index)
+    {
+        return this.fields[index];
+    }
+
+    /**
+     * Fetch the dependency type of one of the injectable fields. This is the type which is used to resolve the value
+     * to inject. For lazy fields, this is the type supplied by the field rather than its declared type.
+     *
+     * @param index The index of the field, from zero to {@link #getFieldCount()} (exclusive).
+     * @return The dependency {@link Class} of the field at the given index.
+     */
+    public Class<?> getFieldType(final int index)
+    {
+        return this.fieldTypes[index];
+    }
+
+    /**
+     * Check if one of the injectable fields is injected lazily.
+     *
+     * @param index The index of the field, from zero to {@link #getFieldCount()} (exclusive).
+     * @return {@code true} if the field receives a {@link LazyDependency}, otherwise {@code false}.
+     */
+    public boolean isLazy(final int index)
+    {
+        return this.lazyFields[index];
+    }
+
+    /**
+     * Check if one of the injectable fields is optional, and so is skipped when no instance is available.
+     *
+     * @param index The index of the field, from zero to {@link #getFieldCount()} (exclusive).
+     * @return {@code true} if the field is marked with {@link OptionalInject}, otherwise {@code false}.
+     */
+    public boolean isOptional(final int index)
+    {
+        return this.optionalFields[index];
+    }
+
+    /**
+     * Resolve the value to inject into one of the plan's fields. Lazy fields receive a new {@link LazyDependency}
+     * bound to the context, while all other fields receive the context's instance of the field type. Optional fields
+     * resolve to {@code null} when the context has no instance.
+     *
+     * @param index The index of the field, from zero to {@link #getFieldCount()} (exclusive).
+     * @param context The {@link PortalContext} to resolve the value against.
+     * @return The value to inject.
+     */
+    Object resolveField(final int index, final PortalContext context)
+    {
+        if (this.lazyFields[index]) return new LazyDependency<>(context, this.fieldTypes[index]);
+        if (this.optionalFields[index]) return context.takeOrNull(this.fieldTypes[index]);
+
+        return context.take(this.fieldTypes[index]);
+    }
+
+    /**
+     * Check if a resolved value should be written into one of the plan's fields. Every value is written, except for
+     * a missing value for an optional field.
+     *
+     * @param index The index of the field, from zero to {@link #getFieldCount()} (exclusive).
+     * @param value The value returned by {@link #resolveField(int, PortalContext)}.
+     * @return {@code true} if the value should be injected, otherwise {@code false}.
+     */
+    boolean shouldInject(final int index, final Object value)
+    {
+        return value != null || !this.optionalFields[index];
+    }
+
+    /**
+     * Fetch the {@link FieldInjector}s created by the given {@link InjectorStrategy} for this plan's fields, creating
+     * them if this is the first request for the strategy. Injectors are indexed the same as the plan's fields.
+     * <p>
+     * The most recently used set of injectors is held separately, so that the common case of a single strategy
+     * resolves without a map lookup. Switching between strategies reuses the cached entries and allocates nothing.
+     *
+     * @param strategy The {@link InjectorStrategy} to fetch injectors for.
+     * @return An array of {@link FieldInjector}s. This array is shared and must not be modified.
+     */
+    FieldInjector[] getInjectors(final InjectorStrategy strategy)
+    {
+        final InjectorCache cache = this.lastInjectors;
+        if (cache != null && cache.strategy == strategy) return cache.injectors;
+
+        InjectorCache found = this.injectors.get(strategy);
+        if (found == null)
+        {
+            final FieldInjector[] created = new FieldInjector[this.fields.length];
+            for (int i = 0; i < this.fields.length; i++) created[i] = strategy.createInjector(this.fields[i]);
+
+            final InjectorCache raced = this.injectors.putIfAbsent(strategy, new InjectorCache(strategy, created));
+            found = (raced != null) ? raced : this.injectors.get(strategy);
+        }
+        this.lastInjectors = found;
+
+        return found.injectors;
+    }
+
+    /**
+     * Fetch the {@link InstanceFactory} for this plan's class, creating it if this is the first request.
+     *
+     * @return The {@link InstanceFactory} for the plan's class.
+     * @throws InstantiationException If the class has no usable constructor or cannot be instantiated.
+     * @throws IllegalAccessException If the selected constructor is not accessible.
+     */
+    public InstanceFactory getInstanceFactory() throws InstantiationException, IllegalAccessException
+    {
+        InstanceFactory factory = this.instanceFactory;
+        if (factory == null)
+        {
+            // Racing threads may each create a factory. They're equivalent, so the last one simply wins.
+            factory = new InstanceFactory(this.targetClass);
+            this.instanceFactory = factory;
+        }
+
+        return factory;
+    }
+
+    /**
+     * Fetch the {@link CompiledInjector} for this plan, compiling it if this is the first request.
+     *
+     * @return The {@link CompiledInjector} for the plan's class.
+     * @throws InstantiationException If the class has no usable constructor or cannot be instantiated.
+     * @throws IllegalAccessException If the selected constructor is not accessible.
+     */
+    CompiledInjector getCompiledInjector() throws InstantiationException, IllegalAccessException
+    {
+        CompiledInjector injector = this.compiledInjector;
+        if (injector == null)
+        {
+            // Racing threads may each compile an injector. They're equivalent, so the last one simply wins.
+            injector = new CompiledInjector(this);
+            this.compiledInjector = injector;
+        }
+
+        return injector;
+    }
+
+    /**
+     * A simple pairing of an {@link InjectorStrategy} with the injectors it created for the plan.
+     */
+    private static final class InjectorCache
+    {
+        private final InjectorStrategy strategy;
+        private final FieldInjector[] injectors;
+
+        private InjectorCache(final InjectorStrategy strategy, final FieldInjector[] injectors)
+        {
+            super();
+
+            this.strategy = strategy;
+            this.injectors = injectors;
+        }
+    }
+}
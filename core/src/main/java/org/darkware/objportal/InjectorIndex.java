@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.ServiceLoader;
+
+/**
+ * An {@code InjectorIndex} maps classes to their {@link GeneratedInjector}s. The ObjectPortal annotation processor
+ * generates one index for each compilation and registers it as a {@link ServiceLoader} provider, so that indexes
+ * are discovered automatically from the classpath.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public interface InjectorIndex
+{
+    /**
+     * Fetch the {@link GeneratedInjector} for the given class.
+     *
+     * @param targetClass The class to fetch the injector for.
+     * @param <T> The type of the class.
+     * @return The {@link GeneratedInjector} for the class, or {@code null} if this index has no injector for it.
+     */
+    <T> GeneratedInjector<T> getInjector(Class<T> targetClass);
+}
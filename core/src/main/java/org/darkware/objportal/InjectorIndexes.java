@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * This class finds the {@link InjectorIndex}es discovered through the {@link ServiceLoader}. Indexes are looked up
+ * through the class loader of each class being planned, so indexes belonging to separately loaded applications or
+ * plugins are found for their own classes.
+ * <p>
+ * Each class keeps the indexes of its loader in a {@link ClassValue}, so they live exactly as long as the classes
+ * which use them. Classes from the same loader share a single lookup through a cache which only holds its loaders
+ * and indexes weakly, so no class loader is kept alive by ObjectPortal.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+final class InjectorIndexes
+{
+    private static final InjectorIndex[] none = new InjectorIndex[0];
+
+    private static final Map<ClassLoader, WeakReference<InjectorIndex[]>> byLoader = new WeakHashMap<>();
+    private static final ClassValue<InjectorIndex[]> byClass = new ClassValue<InjectorIndex[]>()
+    {
+        @Override
+        protected InjectorIndex[] computeValue(final Class<?> type)
+        {
+            return InjectorIndexes.forLoader(type.getClassLoader());
+        }
+    };
+
+    private InjectorIndexes()
+    {
+        super();
+    }
+
+    /**
+     * Find a {@link GeneratedInjector} for the given class in any of the indexes visible to its class loader.
+     *
+     * @param targetClass The class to search for.
+     * @param <T> The type of the class.
+     * @return The {@link GeneratedInjector} for the class, or {@code null} if no index contains one.
+     */
+    static <T> GeneratedInjector<T> find(final Class<T> targetClass)
+    {
+        for (final InjectorIndex index : InjectorIndexes.byClass.get(targetClass))
+        {
+            final GeneratedInjector<T> injector = index.getInjector(targetClass);
+
+            // An index may have been loaded by a different class loader than the class itself.
+            if (injector != null && injector.getTargetClass() == targetClass) return injector;
+        }
+
+        return null;
+    }
+
+    /**
+     * Fetch the indexes visible to a class loader, loading them if no class of the loader has asked for them yet.
+     * Classes loaded by the bootstrap loader never have generated injectors.
+     *
+     * @param loader The {@link ClassLoader} to search, or {@code null} for the bootstrap loader.
+     * @return An array of {@link InjectorIndex}es.
+     */
+    private static InjectorIndex[] forLoader(final ClassLoader loader)
+    {
+        if (loader == null) return InjectorIndexes.none;
+
+        synchronized (InjectorIndexes.byLoader)
+        {
+            final WeakReference<InjectorIndex[]> cached = InjectorIndexes.byLoader.get(loader);
+            final InjectorIndex[] found = (cached == null) ? null : cached.get();
+            if (found != null) return found;
+        }
+
+        // Loading may run provider code, so it happens outside the lock. A racing duplicate is harmless.
+        final InjectorIndex[] loaded = InjectorIndexes.load(loader);
+        synchronized (InjectorIndexes.byLoader)
+        {
+            InjectorIndexes.byLoader.put(loader, new WeakReference<>(loaded));
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Load all of the {@link InjectorIndex} providers visible to a class loader. Providers which fail to load are
+     * skipped, leaving their classes to be injected reflectively.
+     *
+     * @param loader The {@link ClassLoader} to search.
+     * @return An array of {@link InjectorIndex}es.
+     */
+    private static InjectorIndex[] load(final ClassLoader loader)
+    {
+        final List<InjectorIndex> found = new ArrayList<>();
+        final Iterator<InjectorIndex> providers = ServiceLoader.load(InjectorIndex.class, loader).iterator();
+
+        while (true)
+        {
+            try
+            {
+                if (!providers.hasNext()) break;
+                found.add(providers.next());
+            }
+            catch (ServiceConfigurationError e)
+            {
+                // Skip the broken provider.
+            }
+        }
+
+        return found.toArray(new InjectorIndex[found.size()]);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.lang.reflect.Field;
+
+/**
+ * An {@code InjectorStrategy} defines the mechanism a {@link PortalContext} uses to write dependencies into
+ * injectable fields. Strategies are consulted once per field, and the resulting {@link FieldInjector}s are cached
+ * on the {@link InjectionPlan} for the field's class.
+ * <p>
+ * Because the cached injectors are keyed by strategy instance, strategies should be shared between contexts rather
+ * than created for each one.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public interface InjectorStrategy
+{
+    /**
+     * Create a {@link FieldInjector} for the given field. The field has already been made accessible.
+     *
+     * @param field The {@link Field} to create an injector for.
+     * @return A {@link FieldInjector} which writes values into the field.
+     */
+    FieldInjector createInjector(Field field);
+}
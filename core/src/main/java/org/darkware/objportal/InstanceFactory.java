@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import javax.inject.Inject;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * An {@code InstanceFactory} creates new instances of a single class through a cached constructor handle. Factories
+ * are built once per class and held by the class's {@link InjectionPlan}.
+ * <p>
+ * If the class declares a constructor marked with {@link Inject}, that constructor is used and its arguments are
+ * resolved from the {@link PortalContext} creating the instance. An {@code @Inject} constructor may have any
+ * visibility. Otherwise, the class must have a no-arg constructor which is accessible under the normal access rules,
+ * just as with {@link Class#newInstance()}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class InstanceFactory
+{
+    private static final MethodType invokerType = MethodType.methodType(Object.class, Object[].class);
+    private static final Object[] noArguments = new Object[0];
+
+    private final Class<?> targetClass;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle constructor;
+    private final MethodHandle invoker;
+
+    /**
+     * Creates a new factory for the given class.
+     *
+     * @param targetClass The class to create instances of.
+     * @throws InstantiationException If the class cannot be instantiated or has no usable constructor.
+     * @throws IllegalAccessException If the selected constructor is not accessible.
+     */
+    InstanceFactory(final Class<?> targetClass) throws InstantiationException, IllegalAccessException
+    {
+        super();
+
+        this.targetClass = targetClass;
+
+        if (targetClass.isInterface() || Modifier.isAbstract(targetClass.getModifiers()))
+        {
+            throw new InstantiationException(targetClass.getName());
+        }
+
+        final Constructor<?> injectConstructor = InstanceFactory.findInjectConstructor(targetClass);
+        MethodHandle handle;
+        if (injectConstructor != null)
+        {
+            injectConstructor.setAccessible(true);
+            handle = MethodHandles.lookup().unreflectConstructor(injectConstructor);
+            this.parameterTypes = injectConstructor.getParameterTypes();
+        }
+        else
+        {
+            try
+            {
+                handle = MethodHandles.lookup().findConstructor(targetClass, MethodType.methodType(void.class));
+                this.parameterTypes = new Class<?>[0];
+            }
+            catch (NoSuchMethodException e)
+            {
+                InstantiationException error = new InstantiationException(targetClass.getName());
+                error.initCause(e);
+                throw error;
+            }
+        }
+
+        this.constructor = handle.asType(handle.type().generic());
+        this.invoker = this.constructor.asSpreader(Object[].class, this.parameterTypes.length)
+                                       .asType(InstanceFactory.invokerType);
+    }
+
+    /**
+     * Find the single constructor marked with {@link Inject}.
+     *
+     * @param targetClass The class to search.
+     * @return The {@code @Inject} constructor, or {@code null} if the class has none.
+     * @throws InstantiationException If more than one constructor is marked for injection.
+     */
+    private static Constructor<?> findInjectConstructor(final Class<?> targetClass) throws InstantiationException
+    {
+        Constructor<?> found = null;
+        for (final Constructor<?> candidate : targetClass.getDeclaredConstructors())
+        {
+            if (candidate.getDeclaredAnnotation(Inject.class) == null) continue;
+            if (found != null) throw new InstantiationException("Multiple @Inject constructors on " + targetClass.getName());
+
+            found = candidate;
+        }
+
+        return found;
+    }
+
+    /**
+     * Fetch the class this factory creates.
+     *
+     * @return The target {@link Class}.
+     */
+    public Class<?> getTargetClass()
+    {
+        return this.targetClass;
+    }
+
+    /**
+     * Fetch the number of arguments taken by the selected constructor.
+     *
+     * @return The number of constructor arguments.
+     */
+    public int getParameterCount()
+    {
+        return this.parameterTypes.length;
+    }
+
+    /**
+     * Fetch the type of one of the selected constructor's arguments. This is the type which is used to resolve the
+     * argument value.
+     *
+     * @param index The index of the argument.
+     * @return The declared {@link Class} of the argument.
+     */
+    public Class<?> getParameterType(final int index)
+    {
+        return this.parameterTypes[index];
+    }
+
+    /**
+     * Fetch the constructor handle. The handle takes one {@code Object} per constructor argument and returns the new
+     * instance as an {@code Object}.
+     *
+     * @return The constructor {@link MethodHandle}.
+     */
+    MethodHandle getConstructor()
+    {
+        return this.constructor;
+    }
+
+    /**
+     * Create a new instance, resolving constructor arguments from the given context. No fields are injected.
+     *
+     * @param context The {@link PortalContext} to resolve arguments against.
+     * @return The new instance.
+     * @throws Throwable Any exception thrown while resolving arguments or by the constructor itself.
+     */
+    public Object create(final PortalContext context) throws Throwable
+    {
+        if (this.parameterTypes.length == 0) return (Object)this.invoker.invokeExact(InstanceFactory.noArguments);
+
+        final Object[] arguments = new Object[this.parameterTypes.length];
+        for (int i = 0; i < arguments.length; i++) arguments[i] = context.take(this.parameterTypes[i]);
+
+        return (Object)this.invoker.invokeExact(arguments);
+    }
+}
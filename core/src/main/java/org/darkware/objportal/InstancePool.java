@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An {@code InstancePool} holds released instances of a single class for reuse. The pool is a small, fixed set of
+ * slots, split into stripes so that threads mostly work on different parts of it. Taking and returning instances never
+ * locks; an instance released into a full stripe is simply dropped.
+ * <p>
+ * Pools are created per context and per class, and many contexts may be short-lived or used by a single thread, so
+ * the pool is kept small: at most {@value #maxStripes} stripes of {@value #slotsPerStripe} slots, however many
+ * processors are available.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+final class InstancePool
+{
+    private static final int slotsPerStripe = 4;
+    private static final int maxStripes = 8;
+    private static final int stripeCount = InstancePool.stripesFor(Runtime.getRuntime().availableProcessors());
+
+    private final AtomicReferenceArray<Object> slots;
+
+    /**
+     * Create a new, empty pool.
+     */
+    InstancePool()
+    {
+        super();
+
+        this.slots = new AtomicReferenceArray<>(InstancePool.stripeCount * InstancePool.slotsPerStripe);
+    }
+
+    /**
+     * Compute the number of stripes to use for the given number of processors: the smallest power of two which is at
+     * least twice the processor count, capped at {@link #maxStripes}.
+     *
+     * @param processors The number of available processors.
+     * @return The stripe count.
+     */
+    private static int stripesFor(final int processors)
+    {
+        return Math.min(InstancePool.maxStripes, Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1);
+    }
+
+    /**
+     * Find the first slot of the current thread's stripe.
+     *
+     * @return The index of the stripe's first slot.
+     */
+    private static int stripeStart()
+    {
+        final long id = Thread.currentThread().getId();
+        final int hash = (int)(id ^ (id >>> 32)) * 0x9E3779B9;
+
+        return ((hash >>> 16) & (InstancePool.stripeCount - 1)) * InstancePool.slotsPerStripe;
+    }
+
+    /**
+     * Take a pooled instance from the current thread's stripe.
+     *
+     * @return A pooled instance, or {@code null} if the stripe is empty.
+     */
+    Object poll()
+    {
+        final int start = InstancePool.stripeStart();
+
+        for (int i = start; i < start + InstancePool.slotsPerStripe; i++)
+        {
+            if (this.slots.get(i) != null)
+            {
+                final Object instance = this.slots.getAndSet(i, null);
+                if (instance != null) return instance;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Return an instance to the current thread's stripe.
+     * <p>
+     * An instance which is already pooled is refused, since handing it out twice would give two borrowers the same
+     * object. The check scans the whole pool, and a racing release of the same instance is caught after insertion:
+     * when the instance turns up in two slots, the release holding the later slot backs out.
+     *
+     * @param instance The instance to pool.
+     * @return {@code true} if the instance was pooled, {@code false} if the stripe was full.
+     * @throws IllegalStateException If the instance is already pooled.
+     */
+    boolean offer(final Object instance)
+    {
+        if (this.indexOf(instance, -1) >= 0) throw InstancePool.alreadyReleased(instance);
+
+        final int start = InstancePool.stripeStart();
+        for (int i = start; i < start + InstancePool.slotsPerStripe; i++)
+        {
+            if (this.slots.get(i) == null && this.slots.compareAndSet(i, null, instance))
+            {
+                final int other = this.indexOf(instance, i);
+                if (other >= 0 && other < i && this.slots.compareAndSet(i, instance, null)) throw InstancePool.alreadyReleased(instance);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Find a slot holding the given instance.
+     *
+     * @param instance The instance to look for.
+     * @param skip A slot to ignore, or {@code -1} to check every slot.
+     * @return The index of the first slot holding the instance, or {@code -1} if none does.
+     */
+    private int indexOf(final Object instance, final int skip)
+    {
+        for (int i = 0; i < this.slots.length(); i++)
+        {
+            if (i != skip && this.slots.get(i) == instance) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Build the error reported when an instance is released while it is already pooled.
+     *
+     * @param instance The instance being released.
+     * @return The error to throw.
+     */
+    private static IllegalStateException alreadyReleased(final Object instance)
+    {
+        return new IllegalStateException("Instance of " + instance.getClass().getName() + " was released twice.");
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@code LatencyHistogram} counts durations into a fixed set of power-of-two buckets. Bucket {@code i} holds
+ * durations from {@code 2^(i-1)} up to {@code 2^i - 1} nanoseconds, with bucket zero holding zero-length durations
+ * and the last bucket holding everything too long for the others.
+ * <p>
+ * Each bucket is a {@link LongAdder}, so recording from many threads at once never contends on a single counter.
+ * Reads are not atomic across buckets, which is fine for monitoring but means a snapshot may be slightly skewed while
+ * recording is in progress.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class LatencyHistogram
+{
+    /** The number of buckets in every histogram. The last bucket starts at roughly 275 seconds. */
+    public static final int BUCKETS = 40;
+
+    private final LongAdder[] counts;
+    private final LongAdder totalNanos;
+
+    /**
+     * Creates a new, empty histogram.
+     */
+    public LatencyHistogram()
+    {
+        super();
+
+        this.counts = new LongAdder[LatencyHistogram.BUCKETS];
+        for (int i = 0; i < this.counts.length; i++) this.counts[i] = new LongAdder();
+        this.totalNanos = new LongAdder();
+    }
+
+    /**
+     * Record a single duration.
+     *
+     * @param nanos The duration in nanoseconds. Negative durations are counted as zero.
+     */
+    public void record(final long nanos)
+    {
+        final long value = Math.max(nanos, 0L);
+
+        this.counts[LatencyHistogram.bucketOf(value)].increment();
+        this.totalNanos.add(value);
+    }
+
+    /**
+     * Find the bucket which holds the given duration.
+     *
+     * @param nanos The non-negative duration in nanoseconds.
+     * @return The index of the bucket.
+     */
+    static int bucketOf(final long nanos)
+    {
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(nanos), LatencyHistogram.BUCKETS - 1);
+    }
+
+    /**
+     * Fetch the largest duration counted by a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The inclusive upper bound of the bucket in nanoseconds, or {@link Long#MAX_VALUE} for the last bucket.
+     */
+    public static long getUpperBound(final int bucket)
+    {
+        if (bucket >= LatencyHistogram.BUCKETS - 1) return Long.MAX_VALUE;
+
+        return (1L << bucket) - 1L;
+    }
+
+    /**
+     * Fetch the number of durations counted by a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The number of durations in the bucket.
+     */
+    public long getCount(final int bucket)
+    {
+        return this.counts[bucket].sum();
+    }
+
+    /**
+     * Fetch the total number of durations recorded.
+     *
+     * @return The number of recorded durations.
+     */
+    public long getCount()
+    {
+        long total = 0L;
+        for (LongAdder count : this.counts) total += count.sum();
+
+        return total;
+    }
+
+    /**
+     * Fetch the sum of all recorded durations.
+     *
+     * @return The total duration in nanoseconds.
+     */
+    public long getTotalNanos()
+    {
+        return this.totalNanos.sum();
+    }
+
+    /**
+     * Estimate a percentile of the recorded durations. The estimate is the upper bound of the bucket which holds the
+     * percentile, so it is never lower than the true value and is at most twice as high.
+     *
+     * @param percentile The percentile to estimate, from {@code 0.0} to {@code 100.0}.
+     * @return The estimated duration in nanoseconds, or zero if nothing has been recorded.
+     */
+    public long getPercentile(final double percentile)
+    {
+        final long[] snapshot = new long[LatencyHistogram.BUCKETS];
+        long total = 0L;
+        for (int i = 0; i < snapshot.length; i++)
+        {
+            snapshot[i] = this.counts[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0L) return 0L;
+
+        final long rank = Math.max(1L, (long)Math.ceil(total * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0));
+        long seen = 0L;
+        for (int i = 0; i < snapshot.length; i++)
+        {
+            seen += snapshot[i];
+            if (seen >= rank) return LatencyHistogram.getUpperBound(i);
+        }
+
+        return Long.MAX_VALUE;
+    }
+}
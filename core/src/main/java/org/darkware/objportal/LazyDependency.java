@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import javax.inject.Provider;
+import java.util.function.Supplier;
+
+/**
+ * A {@code LazyDependency} is the handle injected into fields declared as {@link Provider} or {@link Supplier} of a
+ * dependency type. Resolution of the dependency is deferred until the first call to {@link #get()}, and the resolved
+ * instance is then cached in the handle for all later calls.
+ * <p>
+ * Deferring resolution keeps rarely used or expensive dependencies out of the injection path. The dependency is
+ * resolved against the {@link PortalContext} which performed the injection, so a handle keeps working even if the
+ * current context changes before it is first used.
+ *
+ * @param <T> The type of the dependency.
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class LazyDependency<T> implements Provider<T>, Supplier<T>
+{
+    private final PortalContext context;
+    private final Class<T> type;
+    private volatile T instance;
+
+    /**
+     * Create a new lazy handle for a dependency.
+     *
+     * @param context The {@link PortalContext} to resolve the dependency against.
+     * @param type The type of the dependency.
+     */
+    public LazyDependency(final PortalContext context, final Class<T> type)
+    {
+        super();
+
+        this.context = context;
+        this.type = type;
+    }
+
+    /**
+     * Fetch the type of the dependency this handle resolves.
+     *
+     * @return The dependency {@link Class}.
+     */
+    public Class<T> getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Check if the dependency has already been resolved by this handle.
+     *
+     * @return {@code true} if {@link #get()} has already resolved an instance, otherwise {@code false}.
+     */
+    public boolean isResolved()
+    {
+        return this.instance != null;
+    }
+
+    /**
+     * Fetch the dependency, resolving it on the first call.
+     *
+     * @return The dependency instance.
+     */
+    @Override
+    public T get()
+    {
+        T resolved = this.instance;
+        if (resolved == null)
+        {
+            // Racing threads may each resolve the dependency. Contexts hand out a single instance, so they agree.
+            resolved = this.context.take(this.type);
+            this.instance = resolved;
+        }
+
+        return resolved;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.InjectionError;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * The {@code MethodHandleInjectorStrategy} injects values through {@link MethodHandle} setters which are unreflected
+ * once per field. This avoids the access checks and argument boxing of reflective writes on every injection.
+ * <p>
+ * Some fields cannot be written through a setter handle (notably {@code final} fields). Those fields are handed to
+ * the {@link ReflectionInjectorStrategy} instead.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class MethodHandleInjectorStrategy implements InjectorStrategy
+{
+    /** A shared instance of the strategy. */
+    public static final MethodHandleInjectorStrategy INSTANCE = new MethodHandleInjectorStrategy();
+
+    private static final MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Override
+    public FieldInjector createInjector(final Field field)
+    {
+        try
+        {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) setter = MethodHandles.dropArguments(setter, 0, Object.class);
+
+            return new HandleInjector(setter.asType(MethodHandleInjectorStrategy.setterType));
+        }
+        catch (IllegalAccessException e)
+        {
+            return ReflectionInjectorStrategy.INSTANCE.createInjector(field);
+        }
+    }
+
+    /**
+     * A {@link FieldInjector} which writes through a pre-bound setter handle.
+     */
+    private static final class HandleInjector implements FieldInjector
+    {
+        private final MethodHandle setter;
+
+        private HandleInjector(final MethodHandle setter)
+        {
+            super();
+
+            this.setter = setter;
+        }
+
+        @Override
+        public void inject(final Object target, final Object value)
+        {
+            try
+            {
+                this.setter.invokeExact(target, value);
+            }
+            catch (Error e)
+            {
+                throw e;
+            }
+            catch (Throwable t)
+            {
+                throw new InjectionError("Error while trying to inject dependencies.", t);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+/**
+ * The {@code NoPortalMetrics} listener discards every notification. It is the default {@link PortalMetrics} for all
+ * contexts and providers.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class NoPortalMetrics implements PortalMetrics
+{
+    /** The shared instance of the listener. */
+    public static final NoPortalMetrics INSTANCE = new NoPortalMetrics();
+
+    private NoPortalMetrics()
+    {
+        super();
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return false;
+    }
+
+    @Override
+    public void takeHit(final Class<?> type)
+    {
+    }
+
+    @Override
+    public void takeMiss(final Class<?> type)
+    {
+    }
+
+    @Override
+    public void supplierResolved(final Class<?> type, final long nanos)
+    {
+    }
+
+    @Override
+    public void injected(final Class<?> type, final int fieldCount, final long nanos)
+    {
+    }
+
+    @Override
+    public void contextCreated(final PortalContextToken token)
+    {
+    }
+
+    @Override
+    public void contextsReclaimed(final int count)
+    {
+    }
+
+    @Override
+    public void contextsReleased(final int count)
+    {
+    }
+}
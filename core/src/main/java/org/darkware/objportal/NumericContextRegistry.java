@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * A {@code NumericContextRegistry} maps primitive {@code long} ids to {@link PortalContext}s using open addressing over
+ * parallel arrays, so neither lookups nor insertions box their keys.
+ * <p>
+ * Lookups never take a lock. Keys and contexts are held in atomic arrays, and each insertion writes the context
+ * before the id, so a reader which sees an id also sees the fully constructed context stored with it. A reader which
+ * races an insertion may miss the new entry, so misses are always repeated under the registry's lock before being
+ * reported.
+ * <p>
+ * Removed entries leave their id behind as a tombstone with no context. Tombstones are dropped whenever the table is
+ * rebuilt, and the rebuilt table is sized by the live entries, so a registry which sees many short-lived contexts
+ * stays bounded by the number it holds at once.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+final class NumericContextRegistry
+{
+    private static final int initialCapacity = 16;
+
+    private volatile Table table;
+    private volatile PortalContext zeroContext;
+    private int size;
+    private int used;
+
+    /**
+     * Create a new, empty registry.
+     */
+    NumericContextRegistry()
+    {
+        super();
+
+        this.table = new Table(NumericContextRegistry.initialCapacity);
+    }
+
+    /**
+     * Fetch the context registered under the given id.
+     *
+     * @param id The id to look up.
+     * @return The registered {@link PortalContext}, or {@code null} if none was found.
+     */
+    PortalContext get(final long id)
+    {
+        final PortalContext context = this.find(id);
+        if (context != null) return context;
+
+        synchronized (this)
+        {
+            return this.find(id);
+        }
+    }
+
+    /**
+     * Fetch the context registered under the given id, creating and registering one if none exists. The factory is
+     * called at most once per id.
+     *
+     * @param id The id to look up.
+     * @param factory The factory used to create a missing context.
+     * @return The registered {@link PortalContext}.
+     */
+    PortalContext computeIfAbsent(final long id, final LongFunction<PortalContext> factory)
+    {
+        final PortalContext context = this.find(id);
+        if (context != null) return context;
+
+        synchronized (this)
+        {
+            final PortalContext existing = this.find(id);
+            if (existing != null) return existing;
+
+            final PortalContext created = factory.apply(id);
+            this.put(id, created);
+            return created;
+        }
+    }
+
+    /**
+     * Look up an id without taking the lock. This may miss an entry which is being inserted concurrently, so callers
+     * must confirm a miss with {@link #get(long)} or {@link #computeIfAbsent(long, LongFunction)}.
+     *
+     * @param id The id to look up.
+     * @return The registered {@link PortalContext}, or {@code null} if none was seen.
+     */
+    PortalContext find(final long id)
+    {
+        if (id == 0L) return this.zeroContext;
+
+        return this.table.get(id);
+    }
+
+    /**
+     * Register a context under the given id, replacing any existing context.
+     *
+     * @param id The id to register.
+     * @param context The {@link PortalContext} to register.
+     */
+    synchronized void put(final long id, final PortalContext context)
+    {
+        if (id == 0L)
+        {
+            if (this.zeroContext == null) this.size++;
+            this.zeroContext = context;
+            return;
+        }
+
+        Table current = this.table;
+        final int slot = current.indexOf(id);
+        if (slot >= 0)
+        {
+            if (current.values.get(slot) == null) this.size++;
+            current.values.set(slot, context);
+            return;
+        }
+
+        if ((this.used + 1) * 2 > current.keys.length())
+        {
+            current = current.rebuild(this.size + 1);
+            this.used = current.count;
+            this.table = current;
+        }
+
+        current.insert(id, context);
+        this.used++;
+        this.size++;
+    }
+
+    /**
+     * Remove the context registered under the given id.
+     *
+     * @param id The id to remove.
+     * @return The {@link PortalContext} which was registered, or {@code null} if there was none.
+     */
+    synchronized PortalContext remove(final long id)
+    {
+        if (id == 0L)
+        {
+            final PortalContext previous = this.zeroContext;
+            if (previous != null) this.size--;
+            this.zeroContext = null;
+            return previous;
+        }
+
+        final Table current = this.table;
+        final int slot = current.indexOf(id);
+        if (slot < 0) return null;
+
+        final PortalContext previous = current.values.getAndSet(slot, null);
+        if (previous != null) this.size--;
+
+        return previous;
+    }
+
+    /**
+     * Fetch the number of registered contexts.
+     *
+     * @return The number of contexts.
+     */
+    synchronized int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Fetch the number of slots in the current table.
+     *
+     * @return The table capacity.
+     */
+    int capacity()
+    {
+        return this.table.keys.length();
+    }
+
+    /**
+     * Mix the bits of an id into a well-distributed hash.
+     *
+     * @param id The id to hash.
+     * @return The mixed hash.
+     */
+    private static int mix(final long id)
+    {
+        final int h = (int)(id ^ (id >>> 32)) * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A {@code Table} holds the parallel key and value arrays. Tables are kept at most half full, counting
+     * tombstones, so every probe sequence ends at an empty slot.
+     */
+    private static final class Table
+    {
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<PortalContext> values;
+        private int count;
+
+        private Table(final int capacity)
+        {
+            super();
+
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+        }
+
+        private PortalContext get(final long id)
+        {
+            final AtomicLongArray keys = this.keys;
+            final int mask = keys.length() - 1;
+
+            for (int i = NumericContextRegistry.mix(id) & mask; ; i = (i + 1) & mask)
+            {
+                final long key = keys.get(i);
+                if (key == id) return this.values.get(i);
+                if (key == 0L) return null;
+            }
+        }
+
+        /**
+         * Find the slot holding an id, including a tombstone left by a removal.
+         *
+         * @return The slot index, or {@code -1} if the id has no slot.
+         */
+        private int indexOf(final long id)
+        {
+            final int mask = this.keys.length() - 1;
+
+            for (int i = NumericContextRegistry.mix(id) & mask; ; i = (i + 1) & mask)
+            {
+                final long key = this.keys.get(i);
+                if (key == id) return i;
+                if (key == 0L) return -1;
+            }
+        }
+
+        /**
+         * Store a context under an id which has no slot yet, writing the value before the key so that racing
+         * readers never see a key without its value.
+         */
+        private void insert(final long id, final PortalContext context)
+        {
+            final int mask = this.keys.length() - 1;
+
+            for (int i = NumericContextRegistry.mix(id) & mask; ; i = (i + 1) & mask)
+            {
+                if (this.keys.get(i) == 0L)
+                {
+                    this.values.set(i, context);
+                    this.keys.set(i, id);
+                    this.count++;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Build a new table holding only the live entries of this one, sized to stay at most a quarter full with the
+         * given number of entries.
+         *
+         * @param entries The number of entries the new table must hold.
+         * @return The new, unpublished table.
+         */
+        private Table rebuild(final int entries)
+        {
+            int capacity = NumericContextRegistry.initialCapacity;
+            while (entries * 4 > capacity) capacity *= 2;
+
+            final Table rebuilt = new Table(capacity);
+            for (int i = 0; i < this.keys.length(); i++)
+            {
+                final PortalContext context = this.values.get(i);
+                if (context != null) rebuilt.insert(this.keys.get(i), context);
+            }
+
+            return rebuilt;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code NumericContextToken} is a {@link PortalContextToken} identified by a primitive {@code long}. Its hash and
+ * equality are computed from the id alone, so resolving a context from one of these tokens never builds or compares
+ * strings. The {@link TokenizedPortalProvider} stores contexts for these tokens in a registry keyed directly by the
+ * numeric id.
+ * <p>
+ * The token key is only built if it is asked for. Like {@link SimpleContextToken}, keys are prefixed to keep them from
+ * matching the keys of other token types. A numeric token is never equal to a token of another type, even one with
+ * the same key, since the provider keeps numeric and keyed contexts apart. Numeric tokens are ordered by id and sort
+ * ahead of every keyed token.
+ * <p>
+ * Ids for new tokens are seeded from the clock, as the Base64 keys of earlier {@link SimplePortalProvider} tokens
+ * were, so tokens minted by different runs are unlikely to collide.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class NumericContextToken implements PortalContextToken
+{
+    protected final static String PREFIX = "#";
+    private static final AtomicLong nextId = new AtomicLong(System.currentTimeMillis());
+
+    private final long id;
+    private String key;
+
+    /**
+     * Creates a new token with the next unused id.
+     */
+    public NumericContextToken()
+    {
+        this(NumericContextToken.nextId.getAndIncrement());
+    }
+
+    /**
+     * Creates a new token with the declared id. This token will match any other {@code NumericContextToken} with the
+     * same id.
+     *
+     * @param id The numeric id to use.
+     */
+    public NumericContextToken(final long id)
+    {
+        super();
+
+        this.id = id;
+    }
+
+    /**
+     * Fetch the numeric id of this token.
+     *
+     * @return The id as a {@code long}.
+     */
+    public final long getId()
+    {
+        return this.id;
+    }
+
+    @Override
+    public String getTokenKey()
+    {
+        if (this.key == null) this.key = NumericContextToken.PREFIX + this.id;
+
+        return this.key;
+    }
+
+    @Override
+    public int compareTo(final PortalContextToken portalContextToken)
+    {
+        if (portalContextToken instanceof NumericContextToken)
+        {
+            return Long.compare(this.id, ((NumericContextToken)portalContextToken).id);
+        }
+
+        return -1;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.getTokenKey();
+    }
+
+    @Override
+    public final boolean equals(final Object that)
+    {
+        if (this == that) return true;
+        if (that instanceof NumericContextToken) return this.id == ((NumericContextToken)that).id;
+
+        return false;
+    }
+
+    @Override
+    public final int hashCode()
+    {
+        return Long.hashCode(this.id);
+    }
+}
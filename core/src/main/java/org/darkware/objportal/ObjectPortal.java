@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.DefaultTokenRefusedException;
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.darkware.objportal.error.ObjectCreationError;
+
+import javax.inject.Inject;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * The {@code ObjectPortal} is the static facade for the library. Each call resolves the active {@link PortalProvider}
+ * and delegates to one of its {@link PortalContext}s.
+ * <p>
+ * The provider is held behind a {@link MutableCallSite} which always returns a constant. Once compiled, facade calls
+ * treat the provider as a constant and can inline straight through to it. Changing the provider re-links the call
+ * site and synchronizes it across all threads, so every caller sees the new, fully constructed provider at once.
+ *
+ * @author jeff@darkware.org
+ * @since 2016-06-09
+ */
+public final class ObjectPortal
+{
+    private static final MutableCallSite providerSite =
+            new MutableCallSite(MethodHandles.constant(PortalProvider.class, null));
+    private static final MethodHandle providerInvoker = ObjectPortal.providerSite.dynamicInvoker();
+
+    /**
+     * Set the {@link PortalProvider} to use when resolving {@link PortalContext}s for {@link Inject}ing dependencies.
+     *
+     * @param provider The {@link PortalProvider} to use.
+     */
+    public static void useProvider(final PortalProvider provider)
+    {
+        synchronized (ObjectPortal.providerSite)
+        {
+            ObjectPortal.providerSite.setTarget(MethodHandles.constant(PortalProvider.class, provider));
+            MutableCallSite.syncAll(new MutableCallSite[] { ObjectPortal.providerSite });
+        }
+    }
+
+    /**
+     * Fetch the {@link PortalProvider} currently in use.
+     *
+     * @return The active {@link PortalProvider}.
+     */
+    static PortalProvider currentProvider()
+    {
+        try
+        {
+            return (PortalProvider)ObjectPortal.providerInvoker.invokeExact();
+        }
+        catch (Error e)
+        {
+            throw e;
+        }
+        catch (Throwable t)
+        {
+            throw new IllegalStateException("Unable to resolve the current portal provider.", t);
+        }
+    }
+
+    /**
+     * Create a {@link PortalHandle} bound to the {@link PortalContext} selected by the given token. The context is
+     * resolved once, so repeated calls through the handle avoid resolving it again.
+     *
+     * @param token The token selecting the context.
+     * @return A {@link PortalHandle} for the selected context.
+     */
+    public static PortalHandle bind(final PortalContextToken token)
+    {
+        return new PortalHandle(token);
+    }
+
+    /**
+     * Create a {@link PortalHandle} bound to the current default {@link PortalContext}. The handle captures the
+     * current default token, so it keeps using that context even if the default token changes later or the handle is
+     * used from another thread. If the provider is replaced, the captured token is resolved against the new provider.
+     *
+     * @return A {@link PortalHandle} for the current default context.
+     */
+    public static PortalHandle current()
+    {
+        return new PortalHandle(ObjectPortal.currentProvider().getDefaultToken());
+    }
+
+    /**
+     * Creates a new concrete instance of the given class, resolving injection requests against the default
+     * {@link PortalContext}. This requires either a constructor marked with {@link Inject} or a suitable default
+     * (parameterless) constructor.
+     *
+     * @param instanceClass The class of object to createContext.
+     * @param <T> The parameterized type of the class.
+     * @return A new concrete instance of the given class.
+     */
+    public static <T> T newInstance(final Class<T> instanceClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext().newInstance(instanceClass);
+    }
+
+    /**
+     * Fetches an instance of the given class from the default {@link PortalContext}'s pool of released instances,
+     * creating a new one if none is available.
+     *
+     * @param instanceClass The class of object to fetch.
+     * @param <T> The parameterized type of the class.
+     * @return A fully injected instance of the given class.
+     * @see PortalContext#newPooledInstance(Class)
+     */
+    public static <T> T newPooledInstance(final Class<T> instanceClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext().newPooledInstance(instanceClass);
+    }
+
+    /**
+     * Returns an instance to the default {@link PortalContext}'s pool so that it can be reused.
+     *
+     * @param object The object to release.
+     * @see PortalContext#release(Object)
+     */
+    public static void release(final Object object)
+    {
+        ObjectPortal.currentProvider().getPortalContext().release(object);
+    }
+
+    /**
+     * Creates a new concrete instance of the given class. This requires either a constructor marked with
+     * {@link Inject} or a suitable default (parameterless) constructor.
+     *
+     * @param token The token identifying the context to resolve the object against.
+     * @param instanceClass The class of object to createContext.
+     * @param <T> The parameterized type of the class.
+     * @return A new concrete instance of the given class.
+     */
+    public static <T> T newInstance(final PortalContextToken token, final Class<T> instanceClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext(token).newInstance(instanceClass);
+    }
+
+    /**
+     * Automatically injects dependencies from the default {@link PortalContext}.
+     * <p>
+     * Injection behavior is delegated to and dictated by the resulting {@link PortalContext}.
+     *
+     * @param object The object to inject dependencies into.
+     * @see PortalContext#autoInject(Object)
+     */
+    public static void autoInject(final Object object)
+    {
+        ObjectPortal.currentProvider().getPortalContext().autoInject(object);
+    }
+
+    /**
+     * Automatically injects dependencies from the {@link PortalContext} associated with the given token.
+     * <p>
+     * Injection behavior is delegated to and dictated by the resulting {@link PortalContext}.
+     *
+     * @param object The object to inject dependencies into.
+     * @see PortalContext#autoInject(Object)
+     */
+    public static void autoInject(final PortalContextToken token, final Object object)
+    {
+        ObjectPortal.currentProvider().getPortalContext(token).autoInject(object);
+    }
+
+    /**
+     * Automatically injects dependencies from the default {@link PortalContext} into every object in the batch. The
+     * context is resolved once for the whole batch.
+     *
+     * @param objects The objects to inject dependencies into.
+     * @see PortalContext#autoInjectAll(Iterable)
+     */
+    public static void autoInjectAll(final Iterable<?> objects)
+    {
+        ObjectPortal.currentProvider().getPortalContext().autoInjectAll(objects);
+    }
+
+    /**
+     * Retrieve an instance of the given class from the default {@link PortalContext}.
+     *
+     * @param targetClass The type of object to retrieve.
+     * @param <T> The parameterized class.
+     * @return An instance of the given class.
+     * @throws NoRegisteredInstanceError If there was no instance of the class available in the default context.
+     */
+    public static <T> T take(final Class<T> targetClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext().take(targetClass);
+    }
+
+    /**
+     * Retrieve an instance of the given class from the {@link PortalContext} identified by the given token.
+     *
+     * @param token The token identifying the context to pull the value from.
+     * @param targetClass The type of object to retrieve.
+     * @param <T> The parameterized class.
+     * @return An instance of the given class.
+     * @throws NoRegisteredInstanceError If there was no instance of the class available in the default context.
+     */
+    public static <T> T take(final PortalContextToken token, final Class<T> targetClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext(token).take(targetClass);
+    }
+
+    /**
+     * Retrieve an instance of the given class from the default {@link PortalContext}, if one is available.
+     *
+     * @param targetClass The type of object to retrieve.
+     * @param <T> The parameterized class.
+     * @return An instance of the given class, or {@code null} if none is available.
+     */
+    public static <T> T takeOrNull(final Class<T> targetClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext().takeOrNull(targetClass);
+    }
+
+    /**
+     * Retrieve an instance of the given class from the default {@link PortalContext}, if one is available.
+     *
+     * @param targetClass The type of object to retrieve.
+     * @param <T> The parameterized class.
+     * @return An {@link Optional} holding an instance of the given class, or an empty {@code Optional}.
+     */
+    public static <T> Optional<T> find(final Class<T> targetClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext().find(targetClass);
+    }
+
+    /**
+     * Retrieve an instance of the given class from the default {@link PortalContext} through a
+     * {@link CompletableFuture}, which completes once an asynchronously placed object has been built.
+     *
+     * @param targetClass The type of object to retrieve.
+     * @param <T> The parameterized class.
+     * @return A {@link CompletableFuture} for an instance of the given class.
+     * @see PortalContext#takeAsync(Class)
+     */
+    public static <T> CompletableFuture<T> takeAsync(final Class<T> targetClass)
+    {
+        return ObjectPortal.currentProvider().getPortalContext().takeAsync(targetClass);
+    }
+
+    /**
+     * Retrieve an instance of the given class from the default {@link PortalContext}, waiting no longer than the
+     * given time for an asynchronously placed object to be built.
+     *
+     * @param targetClass The type of object to retrieve.
+     * @param timeout The longest time to wait for the object.
+     * @param <T> The parameterized class.
+     * @return An instance of the given class.
+     * @see PortalContext#take(Class, Duration)
+     */
+    public static <T> T take(final Class<T> targetClass, final Duration timeout)
+    {
+        return ObjectPortal.currentProvider().getPortalContext().take(targetClass, timeout);
+    }
+
+    /**
+     * Place the given object in the default {@link PortalContext}. This will allow the object to be used for
+     * retrieval and dependency injection via the supplied class.
+     *
+     * @param targetClass The class to register the object under.
+     * @param value The object value to store. This must be a concrete instance of the registered class or a subclass
+     * of that class.
+     * @param <T> The parameterized object type.
+     */
+    public static <T> void place(final Class<T> targetClass, T value)
+    {
+        ObjectPortal.currentProvider().getPortalContext().place(targetClass, value);
+    }
+
+    /**
+     * Place an object in the default {@link PortalContext} which is built in the background by the given
+     * {@link Executor}. Readers wait for the object to be built, or can use {@link #takeAsync(Class)} to avoid
+     * blocking.
+     *
+     * @param targetClass The class to register the object under.
+     * @param supplier A {@link Supplier} which builds the object.
+     * @param executor The {@link Executor} to run the {@code Supplier} on.
+     * @param <T> The parameterized object type.
+     * @see PortalContext#placeAsync(Class, Supplier, Executor)
+     */
+    public static <T> void placeAsync(final Class<T> targetClass, final Supplier<? extends T> supplier, final Executor executor)
+    {
+        ObjectPortal.currentProvider().getPortalContext().placeAsync(targetClass, supplier, executor);
+    }
+
+    /**
+     * Place the given object a given {@link PortalContext} matching the token. This will allow the object to be used
+     * for retrieval and dependency injection via the supplied class.
+     *
+     * @param token The token identifying the {@link PortalContext} to place the value into.
+     * @param targetClass The class to register the object under.
+     * @param value The object value to store. This must be a concrete instance of the registered class or a subclass
+     * of that class.
+     * @param <T> The parameterized object type.
+     */
+    public static <T> void place(final PortalContextToken token, final Class<T> targetClass, T value)
+    {
+        ObjectPortal.currentProvider().getPortalContext(token).place(targetClass, value);
+    }
+
+    /**
+     * Request that the current {@link PortalProvider} generate a new local {@link PortalContext} with an associated
+     * {@link PortalContextToken} for addressing it. The {@code PortalProvider} is allowed to ignore this request, or
+     * to generate a token which points to a pre-existing context.
+     *
+     * @return A {@link PortalContextToken} addressing an active {@link PortalContext}. There is no guarantee that
+     * either the token or the context are new or different than the currently active context.
+     */
+    public static PortalContextToken requestNewContext()
+    {
+        return ObjectPortal.currentProvider().requestNewContext();
+    }
+
+    /**
+     * Fetch a {@link PortalContextToken} for the current default {@link PortalContext}.
+     * <p>
+     * This token is valid only for the current {@link PortalProvider}.
+     *
+     * @return
+     */
+    public static PortalContextToken getDefaultContextToken()
+    {
+        return ObjectPortal.currentProvider().getDefaultToken();
+    }
+
+    /**
+     * Request that the provider adopt a new default {@link PortalContextToken}. This may implicitly create a new
+     * {@link PortalContext} if an associated context does not already exist.
+     *
+     * @throws DefaultTokenRefusedException If the provider chooses to refuse the request for any reason.
+     * @see PortalProvider#useDefaultToken(PortalContextToken)
+     */
+    public static void useDefaultToken(final PortalContextToken defaultToken)
+    {
+        ObjectPortal.currentProvider().useDefaultToken(defaultToken);
+    }
+
+    /**
+     * Runs the given action with the given {@link PortalContextToken} selecting the default {@link PortalContext}. The
+     * previous default is restored once the action completes.
+     *
+     * @param token The token to use as the default while the action runs.
+     * @param action The action to run.
+     * @throws DefaultTokenRefusedException If the provider refuses the token.
+     * @throws UnsupportedOperationException If the provider's default token is not confined to the caller.
+     * @see PortalProvider#runIn(PortalContextToken, Runnable)
+     */
+    public static void runIn(final PortalContextToken token, final Runnable action)
+    {
+        ObjectPortal.currentProvider().runIn(token, action);
+    }
+
+    /**
+     * Calls the given action with the given {@link PortalContextToken} selecting the default {@link PortalContext}.
+     * The previous default is restored once the action completes.
+     *
+     * @param token The token to use as the default while the action runs.
+     * @param action The action to call.
+     * @param <T> The type of value returned by the action.
+     * @return The value returned by the action.
+     * @throws Exception If the action throws an exception.
+     * @throws DefaultTokenRefusedException If the provider refuses the token.
+     * @throws UnsupportedOperationException If the provider's default token is not confined to the caller.
+     * @see PortalProvider#callIn(PortalContextToken, Callable)
+     */
+    public static <T> T callIn(final PortalContextToken token, final Callable<T> action) throws Exception
+    {
+        return ObjectPortal.currentProvider().callIn(token, action);
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.darkware.objportal.error.ObjectCreationError;
+import org.darkware.objportal.error.ResolutionTimeoutError;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The {@code InstancePortal} interface declares the set of methods used for retrieving the concrete
+ * instances of objects stored inside an {@link ObjectPortal}.
+ *
+ * @author jeff@darkware.org
+ * @since 2016-06-09
+ */
+public interface PortalContext
+{
+    /**
+     * Creates a new concrete instance of the given class. If the class declares a constructor marked with
+     * {@link javax.inject.Inject}, that constructor is called with arguments resolved from this context. Otherwise,
+     * this requires that a suitable default (parameterless) constructor exists for the class.
+     *
+     * @param instanceClass The class of object to createContext.
+     * @param <T> The parameterized type of the class.
+     * @return A new concrete instance of the given class.
+     */
+    <T> T newInstance(Class<T> instanceClass);
+
+    /**
+     * Fetches an instance of the given class from this context's pool of released instances, creating a new instance
+     * with {@link #newInstance(Class)} if none is available. A pooled instance has all of its injected fields written
+     * again, just as {@link #autoInject(Object)} would write them.
+     * <p>
+     * The default implementation does no pooling and always creates a new instance.
+     *
+     * @param instanceClass The class of object to fetch.
+     * @param <T> The parameterized type of the class.
+     * @return A fully injected instance of the given class.
+     */
+    default <T> T newPooledInstance(final Class<T> instanceClass)
+    {
+        return this.newInstance(instanceClass);
+    }
+
+    /**
+     * Returns an instance to this context's pool so that it can be handed out again by
+     * {@link #newPooledInstance(Class)}. Only {@link Recyclable} objects can be pooled, and their
+     * {@link Recyclable#reset()} hook is called first. The caller must not use the object after releasing it, and must
+     * release it only once.
+     * <p>
+     * The default implementation does no pooling and discards the object.
+     *
+     * @param object The object to release.
+     */
+    default void release(final Object object)
+    {
+        // Nothing is pooled by default.
+    }
+
+    /**
+     * Supplies values for fields declared as injection targets. The objects available for injection are limited to
+     * just this context.
+     *
+     * @param object The object to inject values into.
+     */
+    void autoInject(Object object);
+
+    /**
+     * Supplies values for the injected fields of every object in the given batch. This is equivalent to calling
+     * {@link #autoInject(Object)} for each object, but implementations may resolve the fields and dependencies of
+     * each class only once per batch.
+     *
+     * @param objects The objects to inject values into.
+     */
+    default void autoInjectAll(final Iterable<?> objects)
+    {
+        for (Object object : objects) this.autoInject(object);
+    }
+
+    /**
+     * Supplies values for the injected fields of every object in the given array.
+     *
+     * @param objects The objects to inject values into.
+     * @see #autoInjectAll(Iterable)
+     */
+    default void autoInjectAll(final Object[] objects)
+    {
+        for (Object object : objects) this.autoInject(object);
+    }
+
+    /**
+     * Supplies values for the injected fields of every object in the given stream. Parallel streams are injected in
+     * parallel.
+     *
+     * @param objects The objects to inject values into.
+     * @see #autoInjectAll(Iterable)
+     */
+    default void autoInjectAll(final Stream<?> objects)
+    {
+        objects.forEach(this::autoInject);
+    }
+
+    /**
+     * Select the {@link InjectorStrategy} used to write values into injected fields. This affects all injections
+     * performed by this context after the call returns. Contexts which do not support pluggable strategies ignore
+     * the request.
+     *
+     * @param strategy The {@link InjectorStrategy} to use.
+     */
+    default void useInjectorStrategy(final InjectorStrategy strategy)
+    {
+        // Contexts without pluggable strategies keep their own injection behavior.
+    }
+
+    /**
+     * Checks to see if the given class has a suitable instance registered.
+     *
+     * @param queryClass The class to search for an instance of.
+     * @return {@code true} if a suitably-matching class instance is available
+     */
+    boolean hasInstance(Class<?> queryClass);
+
+    /**
+     * Fetch a constructed instance of the given class. The actual object returned may or may not be of the
+     * exact type specified.
+     *
+     * @param queryClass The class to fetch.
+     * @param <T> The declared type of the object to return.
+     * @return An object of the queried class.
+     * @throws NoRegisteredInstanceError If no objects of the given class were available.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T take(Class<T> queryClass);
+
+    /**
+     * Fetch a constructed instance of the given class if one is available. Unlike {@link #take(Class)}, a missing
+     * instance is not an error, so this suits probing for optional bindings. Note that an object which was placed as
+     * {@code null} cannot be told apart from a missing one.
+     * <p>
+     * The default implementation checks {@link #hasInstance(Class)} before calling {@link #take(Class)}, which is
+     * two lookups and not atomic. The contexts provided with ObjectPortal override it with a single lookup.
+     *
+     * @param queryClass The class to fetch.
+     * @param <T> The declared type of the object to return.
+     * @return An object of the queried class, or {@code null} if none is available.
+     */
+    default <T> T takeOrNull(final Class<T> queryClass)
+    {
+        return this.hasInstance(queryClass) ? this.take(queryClass) : null;
+    }
+
+    /**
+     * Fetch a constructed instance of the given class, if one is available.
+     *
+     * @param queryClass The class to fetch.
+     * @param <T> The declared type of the object to return.
+     * @return An {@link Optional} holding the object, or an empty {@code Optional} if none is available.
+     * @see #takeOrNull(Class)
+     */
+    default <T> Optional<T> find(final Class<T> queryClass)
+    {
+        return Optional.ofNullable(this.takeOrNull(queryClass));
+    }
+
+    /**
+     * Register an object in the portal. This will declare the object to be returned when the supplied
+     * class is queried.
+     *
+     * @param instanceClass The {@link Class} to place the instance for.
+     * @param object The instance object to place.
+     * @param <T> The type of the object being registered.
+     */
+    <T> void place(Class<T> instanceClass, T object);
+
+    /**
+     * Register an object in the portal. This will declare a {@link Supplier} method which can createContext an
+     * instance of the given class when an object is needed. The {@code Supplier} will only be called
+     * the first time an instance is requested. Thus, the cost of creating an object can be delayed or
+     * avoided altogether if an instance is not needed immediately.
+     *
+     * @param instanceClass The {@link Class} to place the instance for.
+     * @param supplier A {@link Supplier} which can createContext objects of the given class.
+     * @param <T> The type of the object being registered.
+     */
+    <T> void place(Class<T> instanceClass, Supplier<? extends T> supplier);
+
+    /**
+     * Register an object which is built in the background. The {@link Supplier} is started on the given
+     * {@link Executor} immediately, and the binding is available to {@link #hasInstance(Class)} at once. Readers
+     * which call {@link #take(Class)} wait for the object to be built, while {@link #takeAsync(Class)} and
+     * {@link #take(Class, Duration)} let them wait without blocking or give up after a deadline.
+     * <p>
+     * If the {@code Supplier} fails, every read of the binding fails with an {@link ObjectCreationError}.
+     *
+     * @param instanceClass The {@link Class} to place the instance for.
+     * @param supplier A {@link Supplier} which builds the object.
+     * @param executor The {@link Executor} to run the {@code Supplier} on.
+     * @param <T> The type of the object being registered.
+     */
+    default <T> void placeAsync(final Class<T> instanceClass, final Supplier<? extends T> supplier, final Executor executor)
+    {
+        final CompletableFuture<? extends T> future = CompletableFuture.supplyAsync(supplier, executor);
+        final Supplier<T> result = future::join;
+        this.place(instanceClass, result);
+    }
+
+    /**
+     * Fetch a constructed instance of the given class through a {@link CompletableFuture}. For bindings placed with
+     * {@link #placeAsync(Class, Supplier, Executor)}, the future completes once the object has been built. All other
+     * bindings are resolved by the calling thread, and a missing binding produces a future which has failed with a
+     * {@link NoRegisteredInstanceError}.
+     *
+     * @param queryClass The class to fetch.
+     * @param <T> The declared type of the object to return.
+     * @return A {@link CompletableFuture} for an object of the queried class.
+     */
+    default <T> CompletableFuture<T> takeAsync(final Class<T> queryClass)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try
+        {
+            future.complete(this.take(queryClass));
+        }
+        catch (RuntimeException e)
+        {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Fetch a constructed instance of the given class, waiting no longer than the given time for an asynchronous
+     * binding to be built. Bindings which are not asynchronous are resolved by the calling thread, so the deadline
+     * only bounds the wait for objects built in the background.
+     *
+     * @param queryClass The class to fetch.
+     * @param timeout The longest time to wait for the object.
+     * @param <T> The declared type of the object to return.
+     * @return An object of the queried class.
+     * @throws NoRegisteredInstanceError If no objects of the given class were available.
+     * @throws ResolutionTimeoutError If the object was not ready before the deadline.
+     * @throws ObjectCreationError If the object could not be built, or the wait was interrupted.
+     */
+    default <T> T take(final Class<T> queryClass, final Duration timeout)
+    {
+        final CompletableFuture<T> future = this.takeAsync(queryClass);
+        try
+        {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            throw new ResolutionTimeoutError(queryClass, timeout);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException)e.getCause();
+            throw new ObjectCreationError("Error while resolving an instance of " + queryClass.getName(), e.getCause());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ObjectCreationError("Interrupted while waiting for an instance of " + queryClass.getName(), e);
+        }
+    }
+}
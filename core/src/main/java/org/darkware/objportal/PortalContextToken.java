@@ -33,9 +33,18 @@ public interface PortalContextToken extends Comparable<PortalContextToken>
      */
     String getTokenKey();
 
+    /**
+     * Compare this token to another. Keyed tokens are ordered by their token keys, while every
+     * {@link NumericContextToken} sorts ahead of them, so tokens of mixed types share one consistent ordering.
+     *
+     * @param portalContextToken The token to compare against.
+     * @return A negative number, zero or a positive number as this token sorts before, with or after the other.
+     */
     @Override
     default int compareTo(PortalContextToken portalContextToken)
     {
+        if (portalContextToken instanceof NumericContextToken) return 1;
+
         return this.getTokenKey().compareTo(portalContextToken.getTokenKey());
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base of all Java Flight Recorder events emitted by ObjectPortal. Every event records the class it concerns and
+ * the key of the token for the context involved, while JFR records its duration and thread.
+ * <p>
+ * Events are disabled unless a recording enables them, for example with a setting such as
+ * {@code org.darkware.objportal.NewInstance#enabled=true}. Events are only ever created by
+ * {@link FlightRecorderEvents}, so instrumented paths reach them through {@link PortalEvents} and still run on
+ * runtimes without Flight Recorder.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@Category("ObjectPortal")
+@Enabled(false)
+@StackTrace(false)
+abstract class PortalEvent extends Event
+{
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    @Label("Context Token")
+    String contextToken;
+
+    /**
+     * Commit the event if it is enabled and passes its threshold, filling in the target class and token key first.
+     *
+     * @param type The class the event concerns.
+     * @param contextKey The token key of the context involved, or {@code null} if it is not known.
+     */
+    final void commit(final Class<?> type, final String contextKey)
+    {
+        if (!this.shouldCommit()) return;
+
+        this.targetClass = type;
+        this.contextToken = contextKey;
+        this.commit();
+    }
+}
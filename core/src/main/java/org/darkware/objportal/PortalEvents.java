@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.darkware.objportal;
+
+/**
+ * {@code PortalEvents} is the only route from the library's hot paths to its Java Flight Recorder events. Callers
+ * begin an event through the shared {@link #recorder} and hand the returned handle back to commit it, so that none of
+ * them link against {@code jdk.jfr}.
+ * <p>
+ * The recorder is chosen once, when this class is initialized. If the runtime provides {@code jdk.jfr}, the recorder
+ * is a {@link FlightRecorderEvents}, which is loaded by name. Otherwise, or if it cannot be loaded, every method does
+ * nothing and each {@code begin} call returns {@code null}. A recorder also returns {@code null} for an event which no
+ * recording has enabled, and every {@code commit} method accepts {@code null} handles.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+abstract class PortalEvents
+{
+    /** The recorder used by all contexts and providers. */
+    static final PortalEvents recorder = PortalEvents.load();
+
+    /**
+     * Select the recorder for this runtime.
+     *
+     * @return A {@link FlightRecorderEvents} if Flight Recorder is available, otherwise a recorder which does nothing.
+     */
+    private static PortalEvents load()
+    {
+        try
+        {
+            Class.forName("jdk.jfr.Event", false, PortalEvents.class.getClassLoader());
+
+            return (PortalEvents)Class.forName(PortalEvents.class.getPackage().getName() + ".FlightRecorderEvents")
+                                      .newInstance();
+        }
+        catch (ReflectiveOperationException | LinkageError e)
+        {
+            return new Disabled();
+        }
+    }
+
+    /**
+     * Begin a {@link NewInstanceEvent}.
+     *
+     * @return The event handle, or {@code null} if the event is not being recorded.
+     */
+    abstract Object beginNewInstance();
+
+    /**
+     * Begin an {@link InjectionEvent}. The handle must be committed through
+     * {@link #commitInjection(Object, Class, String, int)}.
+     *
+     * @return The event handle, or {@code null} if the event is not being recorded.
+     */
+    abstract Object beginInjection();
+
+    /**
+     * Begin a {@link SupplierResolutionEvent}.
+     *
+     * @return The event handle, or {@code null} if the event is not being recorded.
+     */
+    abstract Object beginSupplierResolution();
+
+    /**
+     * Begin a {@link ContextCreationEvent}.
+     *
+     * @return The event handle, or {@code null} if the event is not being recorded.
+     */
+    abstract Object beginContextCreation();
+
+    /**
+     * Begin a {@link BindingWaitEvent}.
+     *
+     * @return The event handle, or {@code null} if the event is not being recorded.
+     */
+    abstract Object beginBindingWait();
+
+    /**
+     * End an event without committing it, so that work done afterwards is not counted in its duration.
+     *
+     * @param event The event handle, or {@code null}.
+     */
+    abstract void end(Object event);
+
+    /**
+     * Commit an event if it passes its threshold, filling in the target class and token key first.
+     *
+     * @param event The event handle, or {@code null}.
+     * @param type The class the event concerns.
+     * @param contextKey The token key of the context involved, or {@code null} if it is not known.
+     */
+    abstract void commit(Object event, Class<?> type, String contextKey);
+
+    /**
+     * Commit an {@link InjectionEvent} if it passes its threshold, filling in its fields first.
+     *
+     * @param event The event handle, or {@code null}.
+     * @param type The class of the injected object.
+     * @param contextKey The token key of the context involved, or {@code null} if it is not known.
+     * @param fieldCount The number of fields injected.
+     */
+    abstract void commitInjection(Object event, Class<?> type, String contextKey, int fieldCount);
+
+    /**
+     * The recorder used when Flight Recorder is not available.
+     */
+    private static final class Disabled extends PortalEvents
+    {
+        private Disabled()
+        {
+            super();
+        }
+
+        @Override
+        Object beginNewInstance()
+        {
+            return null;
+        }
+
+        @Override
+        Object beginInjection()
+        {
+            return null;
+        }
+
+        @Override
+        Object beginSupplierResolution()
+        {
+            return null;
+        }
+
+        @Override
+        Object beginContextCreation()
+        {
+            return null;
+        }
+
+        @Override
+        Object beginBindingWait()
+        {
+            return null;
+        }
+
+        @Override
+        void end(final Object event)
+        {
+        }
+
+        @Override
+        void commit(final Object event, final Class<?> type, final String contextKey)
+        {
+        }
+
+        @Override
+        void commitInjection(final Object event, final Class<?> type, final String contextKey, final int fieldCount)
+        {
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * A {@code PortalHandle} is a lightweight reference to a {@link PortalContext} obtained through the
+ * {@link ObjectPortal} facade. The context is resolved once, when the handle is created, so repeated calls through
+ * the handle skip resolving the provider and the context every time.
+ * <p>
+ * A handle remembers the {@link PortalContextToken} and the {@link PortalProvider} its context came from. If
+ * {@link ObjectPortal#useProvider(PortalProvider)} installs a different provider, the handle resolves the same token
+ * against the new provider before its next use, rather than continuing to use a context from the old one. Handles
+ * for the default context capture the default token when they are created, so a handle shared across threads keeps
+ * addressing the same context no matter which thread uses it.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ * @see ObjectPortal#bind(PortalContextToken)
+ * @see ObjectPortal#current()
+ */
+public final class PortalHandle
+{
+    private final PortalContextToken token;
+    private volatile Resolution resolution;
+
+    /**
+     * Create a new handle, resolving its context immediately.
+     *
+     * @param token The token to resolve.
+     */
+    PortalHandle(final PortalContextToken token)
+    {
+        super();
+
+        if (token == null) throw new IllegalArgumentException("Handle token cannot be null.");
+        this.token = token;
+        this.resolution = this.resolve(ObjectPortal.currentProvider());
+    }
+
+    /**
+     * Resolve this handle's context against the given provider.
+     *
+     * @param provider The {@link PortalProvider} to resolve against.
+     * @return A new {@link Resolution}.
+     */
+    private Resolution resolve(final PortalProvider provider)
+    {
+        return new Resolution(provider, provider.getPortalContext(this.token));
+    }
+
+    /**
+     * Fetch the {@link PortalContext} this handle refers to, resolving it again if the provider has changed.
+     *
+     * @return The bound {@link PortalContext}.
+     */
+    public PortalContext getContext()
+    {
+        final Resolution current = this.resolution;
+        final PortalProvider provider = ObjectPortal.currentProvider();
+        if (current.provider == provider) return current.context;
+
+        final Resolution replacement = this.resolve(provider);
+        this.resolution = replacement;
+
+        return replacement.context;
+    }
+
+    /**
+     * Fetch the token this handle was bound to.
+     *
+     * @return The bound {@link PortalContextToken}. For handles created by {@link ObjectPortal#current()}, this is the
+     * default token at the time the handle was created.
+     */
+    public PortalContextToken getToken()
+    {
+        return this.token;
+    }
+
+    /**
+     * Creates a new concrete instance of the given class from the bound context.
+     *
+     * @param instanceClass The class of object to create.
+     * @param <T> The parameterized type of the class.
+     * @return A new concrete instance of the given class.
+     * @see PortalContext#newInstance(Class)
+     */
+    public <T> T newInstance(final Class<T> instanceClass)
+    {
+        return this.getContext().newInstance(instanceClass);
+    }
+
+    /**
+     * Fetches an instance of the given class from the bound context's pool of released instances, creating a new one
+     * if none is available.
+     *
+     * @param instanceClass The class of object to fetch.
+     * @param <T> The parameterized type of the class.
+     * @return A fully injected instance of the given class.
+     * @see PortalContext#newPooledInstance(Class)
+     */
+    public <T> T newPooledInstance(final Class<T> instanceClass)
+    {
+        return this.getContext().newPooledInstance(instanceClass);
+    }
+
+    /**
+     * Returns an instance to the bound context's pool so that it can be reused.
+     *
+     * @param object The object to release.
+     * @see PortalContext#release(Object)
+     */
+    public void release(final Object object)
+    {
+        this.getContext().release(object);
+    }
+
+    /**
+     * Injects dependencies into the given object from the bound context.
+     *
+     * @param object The object to inject.
+     * @see PortalContext#autoInject(Object)
+     */
+    public void autoInject(final Object object)
+    {
+        this.getContext().autoInject(object);
+    }
+
+    /**
+     * Injects dependencies from the bound context into every object in the batch.
+     *
+     * @param objects The objects to inject.
+     * @see PortalContext#autoInjectAll(Iterable)
+     */
+    public void autoInjectAll(final Iterable<?> objects)
+    {
+        this.getContext().autoInjectAll(objects);
+    }
+
+    /**
+     * Fetch an instance of the given class from the bound context.
+     *
+     * @param targetClass The class of the object to retrieve.
+     * @param <T> The type of the object to retrieve.
+     * @return The registered instance.
+     * @see PortalContext#take(Class)
+     */
+    public <T> T take(final Class<T> targetClass)
+    {
+        return this.getContext().take(targetClass);
+    }
+
+    /**
+     * Fetch an instance of the given class from the bound context, waiting no longer than the given time for an
+     * asynchronously placed object to be built.
+     *
+     * @param targetClass The class of the object to retrieve.
+     * @param timeout The longest time to wait for the object.
+     * @param <T> The type of the object to retrieve.
+     * @return The registered instance.
+     * @see PortalContext#take(Class, Duration)
+     */
+    public <T> T take(final Class<T> targetClass, final Duration timeout)
+    {
+        return this.getContext().take(targetClass, timeout);
+    }
+
+    /**
+     * Fetch an instance of the given class from the bound context, if one is available.
+     *
+     * @param targetClass The class of the object to retrieve.
+     * @param <T> The type of the object to retrieve.
+     * @return The registered instance, or {@code null} if none is available.
+     * @see PortalContext#takeOrNull(Class)
+     */
+    public <T> T takeOrNull(final Class<T> targetClass)
+    {
+        return this.getContext().takeOrNull(targetClass);
+    }
+
+    /**
+     * Fetch an instance of the given class from the bound context through a {@link CompletableFuture}, which
+     * completes once an asynchronously placed object has been built.
+     *
+     * @param targetClass The class of the object to retrieve.
+     * @param <T> The type of the object to retrieve.
+     * @return A {@link CompletableFuture} for the registered instance.
+     * @see PortalContext#takeAsync(Class)
+     */
+    public <T> CompletableFuture<T> takeAsync(final Class<T> targetClass)
+    {
+        return this.getContext().takeAsync(targetClass);
+    }
+
+    /**
+     * Fetch an instance of the given class from the bound context, if one is available.
+     *
+     * @param targetClass The class of the object to retrieve.
+     * @param <T> The type of the object to retrieve.
+     * @return An {@link Optional} holding the registered instance, or an empty {@code Optional}.
+     * @see PortalContext#find(Class)
+     */
+    public <T> Optional<T> find(final Class<T> targetClass)
+    {
+        return this.getContext().find(targetClass);
+    }
+
+    /**
+     * Checks if the bound context has an instance registered for the given class.
+     *
+     * @param queryClass The class to check.
+     * @return {@code true} if an instance is registered, otherwise {@code false}.
+     * @see PortalContext#hasInstance(Class)
+     */
+    public boolean hasInstance(final Class<?> queryClass)
+    {
+        return this.getContext().hasInstance(queryClass);
+    }
+
+    /**
+     * Places an object into the bound context.
+     *
+     * @param targetClass The class to register the object under.
+     * @param value The object to register.
+     * @param <T> The type of the object.
+     * @see PortalContext#place(Class, Object)
+     */
+    public <T> void place(final Class<T> targetClass, final T value)
+    {
+        this.getContext().place(targetClass, value);
+    }
+
+    /**
+     * Places a {@link Supplier} into the bound context.
+     *
+     * @param targetClass The class to register the supplier under.
+     * @param supplier The supplier of the object.
+     * @param <T> The type of the object.
+     * @see PortalContext#place(Class, Supplier)
+     */
+    public <T> void place(final Class<T> targetClass, final Supplier<? extends T> supplier)
+    {
+        this.getContext().place(targetClass, supplier);
+    }
+
+    /**
+     * Places an object into the bound context which is built in the background by the given {@link Executor}.
+     *
+     * @param targetClass The class to register the object under.
+     * @param supplier A {@link Supplier} which builds the object.
+     * @param executor The {@link Executor} to run the {@code Supplier} on.
+     * @param <T> The type of the object.
+     * @see PortalContext#placeAsync(Class, Supplier, Executor)
+     */
+    public <T> void placeAsync(final Class<T> targetClass, final Supplier<? extends T> supplier, final Executor executor)
+    {
+        this.getContext().placeAsync(targetClass, supplier, executor);
+    }
+
+    /**
+     * A {@code Resolution} pairs a resolved {@link PortalContext} with the {@link PortalProvider} it came from, so
+     * that both can be replaced together.
+     */
+    private static final class Resolution
+    {
+        private final PortalProvider provider;
+        private final PortalContext context;
+
+        private Resolution(final PortalProvider provider, final PortalContext context)
+        {
+            super();
+
+            this.provider = provider;
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+/**
+ * A {@code PortalMetrics} listener receives notifications from the hot paths of {@link PortalContext}s and
+ * {@link TokenizedPortalProvider}s. Contexts report how each {@link PortalContext#take(Class)} was satisfied, how
+ * long {@code Supplier}s take to resolve and how long {@link PortalContext#autoInject(Object)} takes, including for
+ * each object of an {@code autoInjectAll} batch. Providers report each context they create, reclaim or release.
+ * <p>
+ * Listeners are called on the thread performing the operation, often at very high rates, so implementations must be
+ * thread-safe and should do as little work as possible. By default contexts and providers use
+ * {@link NoPortalMetrics}, whose empty methods are inlined away by the JIT.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public interface PortalMetrics
+{
+    /**
+     * Checks whether this listener wants latency measurements. When this returns {@code false}, callers skip reading
+     * the clock entirely and report a latency of zero.
+     *
+     * @return {@code true} if latencies should be measured, otherwise {@code false}.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records a {@code take} which was satisfied by an object that was already available.
+     *
+     * @param type The requested class.
+     */
+    void takeHit(Class<?> type);
+
+    /**
+     * Records a {@code take} which found no binding for the requested class.
+     *
+     * @param type The requested class.
+     */
+    void takeMiss(Class<?> type);
+
+    /**
+     * Records a {@code take} which had to resolve a {@code Supplier}-backed binding.
+     *
+     * @param type The requested class.
+     * @param nanos The time spent resolving the binding, in nanoseconds.
+     */
+    void supplierResolved(Class<?> type, long nanos);
+
+    /**
+     * Records the injection of a single object by {@code autoInject} or {@code autoInjectAll}.
+     *
+     * @param type The class of the injected object.
+     * @param fieldCount The number of fields injected, as given by {@link InjectionPlan#getInjectedFieldCount()}.
+     * @param nanos The time spent injecting, in nanoseconds.
+     */
+    void injected(Class<?> type, int fieldCount, long nanos);
+
+    /**
+     * Records the creation of a new context by a provider.
+     *
+     * @param token The {@link PortalContextToken} the context was created for.
+     */
+    void contextCreated(PortalContextToken token);
+
+    /**
+     * Records the removal of contexts whose tokens were collected.
+     *
+     * @param count The number of contexts reclaimed.
+     */
+    void contextsReclaimed(int count);
+
+    /**
+     * Records the removal of contexts through {@link TokenizedPortalProvider#releaseContext(PortalContextToken)}.
+     *
+     * @param count The number of contexts released.
+     */
+    void contextsReleased(int count);
+}
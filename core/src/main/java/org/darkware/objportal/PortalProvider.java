@@ -20,6 +20,8 @@ package org.darkware.objportal;
 import org.darkware.objportal.error.DefaultTokenRefusedException;
 import org.darkware.objportal.error.UnrecognizedTokenException;
 
+import java.util.concurrent.Callable;
+
 /**
  * A {@code PortalProvider} is a provider object that functions like something of a combination
  * of a Factory and a Lookup Facade. It is responsible for providing the current active
@@ -86,4 +88,40 @@ public interface PortalProvider
      * @throws DefaultTokenRefusedException If the provider chooses to refuse the request for any reason.
      */
     void useDefaultToken(final PortalContextToken defaultToken);
+
+    /**
+     * Runs the given action with the given {@link PortalContextToken} as the default token, restoring the previous
+     * default once the action completes.
+     * <p>
+     * This is only supported by providers whose default token is confined to a thread or a scope, such as
+     * {@link ThreadLocalPortalProvider} and {@link ScopedPortalProvider}. Swapping a process-wide default would let
+     * concurrent callers overwrite and restore each other's tokens, so the default implementation refuses.
+     *
+     * @param token The token to use as the default while the action runs.
+     * @param action The action to run.
+     * @param <T> The type of value returned by the action.
+     * @return The value returned by the action.
+     * @throws Exception If the action throws an exception.
+     * @throws DefaultTokenRefusedException If the provider refuses the token.
+     * @throws UnsupportedOperationException If the provider's default token is not confined to the caller.
+     */
+    default <T> T callIn(final PortalContextToken token, final Callable<T> action) throws Exception
+    {
+        throw new UnsupportedOperationException(this.getClass().getName() + " has no thread or scope confined default token.");
+    }
+
+    /**
+     * Runs the given action with the given {@link PortalContextToken} as the default token, restoring the previous
+     * default once the action completes.
+     *
+     * @param token The token to use as the default while the action runs.
+     * @param action The action to run.
+     * @throws DefaultTokenRefusedException If the provider refuses the token.
+     * @throws UnsupportedOperationException If the provider's default token is not confined to the caller.
+     * @see #callIn(PortalContextToken, Callable)
+     */
+    default void runIn(final PortalContextToken token, final Runnable action)
+    {
+        throw new UnsupportedOperationException(this.getClass().getName() + " has no thread or scope confined default token.");
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+/**
+ * A {@code Recyclable} object can be returned to a {@link PortalContext}'s instance pool with
+ * {@link PortalContext#release(Object)} and handed out again by {@link PortalContext#newPooledInstance(Class)}.
+ * <p>
+ * The {@link #reset()} hook is called as the object is released, and should clear any state left behind by its last
+ * use. Injected fields may be left alone: every injected field is written again when the object is handed out, so it
+ * always sees the context's current bindings.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public interface Recyclable
+{
+    /**
+     * Clear any state from the object's previous use before it is pooled.
+     */
+    void reset();
+}
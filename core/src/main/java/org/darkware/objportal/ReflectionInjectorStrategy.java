@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.InjectionError;
+
+import java.lang.reflect.Field;
+
+/**
+ * The {@code ReflectionInjectorStrategy} injects values through the reflective {@link Field#set(Object, Object)}
+ * call. This is the slowest strategy, but it can write to every kind of field, so it serves as the fallback for
+ * other strategies.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class ReflectionInjectorStrategy implements InjectorStrategy
+{
+    /** A shared instance of the strategy. */
+    public static final ReflectionInjectorStrategy INSTANCE = new ReflectionInjectorStrategy();
+
+    @Override
+    public FieldInjector createInjector(final Field field)
+    {
+        return (target, value) -> {
+            try
+            {
+                field.set(target, value);
+            }
+            catch (IllegalAccessException | IllegalArgumentException e)
+            {
+                throw new InjectionError("Error while trying to inject dependencies.", e);
+            }
+        };
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code ScopedPortalProvider} is a {@link PortalProvider} which binds {@link PortalContext}s to lexical scopes
+ * rather than to threads. A scope is entered with {@link #runIn(PortalContextToken, Runnable)} or
+ * {@link #callIn(PortalContextToken, Callable)} and lasts until that call returns. Code running outside of any scope
+ * uses the provider's root context.
+ * <p>
+ * Unlike the {@link ThreadLocalPortalProvider}, threads never receive a context of their own and nothing is copied
+ * when a thread starts. This suits designs which start a very large number of short-lived threads, such as one
+ * virtual thread per request. Work handed to other threads can carry the current scope with it by wrapping it with
+ * {@link #inCurrentScope(Runnable)} or {@link #inCurrentScope(Callable)}, which costs a single object per task.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class ScopedPortalProvider extends TokenizedPortalProvider
+{
+    private final ThreadLocal<Scope> currentScope;
+    private volatile Scope rootScope;
+
+    /**
+     * Create a new {@link PortalProvider} with an empty root {@link PortalContext}.
+     */
+    public ScopedPortalProvider()
+    {
+        super();
+
+        this.currentScope = new ThreadLocal<>();
+        this.enableAutoCreation(true);
+
+        final PortalContextToken rootToken = this.requestNewContext();
+        this.rootScope = new Scope(rootToken, this.getPortalContext(rootToken));
+    }
+
+    /**
+     * Fetch the innermost {@link Scope} active on the current thread, or the root scope if none is active.
+     *
+     * @return The active {@link Scope}.
+     */
+    private Scope getCurrentScope()
+    {
+        final Scope scope = this.currentScope.get();
+
+        return (scope == null) ? this.rootScope : scope;
+    }
+
+    @Override
+    public PortalContext getPortalContext()
+    {
+        return this.getCurrentScope().context;
+    }
+
+    @Override
+    public PortalContextToken getDefaultToken()
+    {
+        return this.getCurrentScope().token;
+    }
+
+    @Override
+    public PortalContextToken requestNewContext()
+    {
+        return new ScopedContextToken();
+    }
+
+    /**
+     * Adopt a new default token. Inside a scope, the token replaces the scope's token until the scope exits. Outside
+     * of any scope, the token replaces the root token for all threads.
+     *
+     * @param defaultToken The token to adopt.
+     */
+    @Override
+    public void useDefaultToken(final PortalContextToken defaultToken)
+    {
+        final Scope scope = new Scope(defaultToken, this.getPortalContext(defaultToken));
+
+        if (this.currentScope.get() == null) this.rootScope = scope;
+        else this.currentScope.set(scope);
+    }
+
+    @Override
+    protected boolean isReclaimable(final PortalContextToken token)
+    {
+        return token instanceof ScopedContextToken;
+    }
+
+    @Override
+    public <T> T callIn(final PortalContextToken token, final Callable<T> action) throws Exception
+    {
+        return this.callInScope(new Scope(token, this.getPortalContext(token)), action);
+    }
+
+    @Override
+    public void runIn(final PortalContextToken token, final Runnable action)
+    {
+        this.runInScope(new Scope(token, this.getPortalContext(token)), action);
+    }
+
+    /**
+     * Wrap the given action so that it runs in the scope which is active right now, regardless of which thread
+     * eventually runs it.
+     *
+     * @param action The action to wrap.
+     * @return A {@link Runnable} which runs the action in the captured scope.
+     */
+    public Runnable inCurrentScope(final Runnable action)
+    {
+        final Scope scope = this.getCurrentScope();
+
+        return () -> this.runInScope(scope, action);
+    }
+
+    /**
+     * Wrap the given action so that it is called in the scope which is active right now, regardless of which thread
+     * eventually calls it.
+     *
+     * @param action The action to wrap.
+     * @param <T> The type of value returned by the action.
+     * @return A {@link Callable} which calls the action in the captured scope.
+     */
+    public <T> Callable<T> inCurrentScope(final Callable<T> action)
+    {
+        final Scope scope = this.getCurrentScope();
+
+        return () -> this.callInScope(scope, action);
+    }
+
+    /**
+     * Call an action with the given {@link Scope} bound to the current thread.
+     *
+     * @param scope The scope to bind.
+     * @param action The action to call.
+     * @param <T> The type of value returned by the action.
+     * @return The value returned by the action.
+     * @throws Exception If the action throws an exception.
+     */
+    private <T> T callInScope(final Scope scope, final Callable<T> action) throws Exception
+    {
+        final Scope previous = this.currentScope.get();
+        this.currentScope.set(scope);
+        try
+        {
+            return action.call();
+        }
+        finally
+        {
+            this.exitScope(previous);
+        }
+    }
+
+    /**
+     * Run an action with the given {@link Scope} bound to the current thread.
+     *
+     * @param scope The scope to bind.
+     * @param action The action to run.
+     */
+    private void runInScope(final Scope scope, final Runnable action)
+    {
+        final Scope previous = this.currentScope.get();
+        this.currentScope.set(scope);
+        try
+        {
+            action.run();
+        }
+        finally
+        {
+            this.exitScope(previous);
+        }
+    }
+
+    /**
+     * Restore the scope which was active before the current one was entered.
+     *
+     * @param previous The enclosing scope, or {@code null} if there was none.
+     */
+    private void exitScope(final Scope previous)
+    {
+        if (previous == null) this.currentScope.remove();
+        else this.currentScope.set(previous);
+    }
+
+    /**
+     * A {@code Scope} pairs a {@link PortalContextToken} with the {@link PortalContext} it resolved to when the scope
+     * was entered.
+     */
+    private static final class Scope
+    {
+        private final PortalContextToken token;
+        private final PortalContext context;
+
+        private Scope(final PortalContextToken token, final PortalContext context)
+        {
+            super();
+
+            this.token = token;
+            this.context = context;
+        }
+    }
+
+    /**
+     * This is the implementation of {@link PortalContextToken} which is issued by a {@link ScopedPortalProvider}.
+     * Contexts for these tokens are reclaimed once the token is no longer referenced.
+     */
+    public static class ScopedContextToken extends DefaultContextToken
+    {
+        private static final AtomicLong nextId = new AtomicLong(1L);
+
+        private final long scopeId;
+
+        /**
+         * Create a new token.
+         */
+        public ScopedContextToken()
+        {
+            super();
+
+            this.scopeId = ScopedContextToken.nextId.getAndIncrement();
+        }
+
+        @Override
+        protected String generateKey()
+        {
+            return "Scope-" + this.scopeId;
+        }
+    }
+}
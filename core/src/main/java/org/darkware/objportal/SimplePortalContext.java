@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * This is a {@link PortalContext} which uses very simple local storage of instances.
+ * <p>
+ * Objects and {@link Supplier}s share a single table of bindings. Lookups never lock. A binding backed by a
+ * {@code Supplier} is resolved exactly once, and threads only wait on each other when they are resolving the same
+ * binding.
+ * <p>
+ * A context may be created as the child of a parent context. The child stores only the bindings placed into it, and
+ * resolves anything else from its parent, sharing the parent's bindings and any objects its suppliers create. Bindings
+ * found in the parent chain are read from the parents directly and never copied into the child, so a child costs
+ * nothing beyond the bindings placed into it, however many of its parent's bindings it uses.
+ * <p>
+ * Since parents may still change, a lookup which misses in the child probes each ancestor in turn, costing one hash
+ * lookup per level of the chain. Contexts created by a {@link ContextTemplate} avoid this: the template flattens every
+ * binding of its source chain into a single sealed table, and a child of a sealed context reads that table directly,
+ * so any inherited lookup is a single probe however deep the original chain was. Deep chains of mutable parents
+ * should be replaced by a template where lookups are hot.
+ *
+ * @author jeff@darkware.org
+ * @since 2016-06-09
+ */
+public class SimplePortalContext extends AbstractPortalContext
+{
+    private final ConcurrentMap<Class<?>, Binding> bindings;
+    private final SimplePortalContext parent;
+    private final Map<Class<?>, Binding> inherited;
+    private boolean sealed;
+
+    /**
+     * Creates a new implementation of {@link PortalContext} that uses simple object storage which
+     * allows a given object to place for multiple types.
+     */
+    public SimplePortalContext()
+    {
+        this(null);
+    }
+
+    /**
+     * Creates a new context which resolves any class it has no binding for from the given parent context.
+     *
+     * @param parent The parent context, or {@code null} for a context with no parent.
+     */
+    public SimplePortalContext(final SimplePortalContext parent)
+    {
+        super();
+
+        this.bindings = new ConcurrentHashMap<>();
+        this.parent = parent;
+        this.inherited = (parent != null && parent.sealed) ? parent.bindings : null;
+    }
+
+    /**
+     * Declare that this context's bindings already include everything from its ancestors and will never change
+     * again. Children created afterwards read this context's table directly instead of walking its parent chain.
+     * This must be called before the context is shared with any other thread.
+     */
+    void seal()
+    {
+        this.sealed = true;
+    }
+
+    /**
+     * Fetch the parent of this context.
+     *
+     * @return The parent {@link SimplePortalContext}, or {@code null} if this context has no parent.
+     */
+    public SimplePortalContext getParent()
+    {
+        return this.parent;
+    }
+
+    /**
+     * Fetch the binding for the given class from this context or the nearest ancestor which has one.
+     *
+     * @param queryClass The class to look up.
+     * @return The {@link Binding}, or {@code null} if no context in the chain has one.
+     */
+    private Binding findBinding(final Class<?> queryClass)
+    {
+        final Binding binding = this.bindings.get(queryClass);
+        if (binding != null) return binding;
+
+        return this.getInheritedBinding(queryClass);
+    }
+
+    /**
+     * Fetch the binding for the given class from this context's ancestors. A sealed parent's flattened table is read
+     * with a single probe, while any other parent is searched along with its own ancestors.
+     *
+     * @param queryClass The class to look up.
+     * @return The {@link Binding}, or {@code null} if no ancestor has one.
+     */
+    private Binding getInheritedBinding(final Class<?> queryClass)
+    {
+        final Map<Class<?>, Binding> flattened = this.inherited;
+        if (flattened != null) return flattened.get(queryClass);
+
+        return (this.parent == null) ? null : this.parent.findBinding(queryClass);
+    }
+
+    /**
+     * Copy the bindings visible from this context into the given map, with this context's own bindings replacing
+     * those of its ancestors.
+     *
+     * @param target The map to fill.
+     */
+    void collectBindings(final Map<Class<?>, Binding> target)
+    {
+        if (this.parent != null) this.parent.collectBindings(target);
+        target.putAll(this.bindings);
+    }
+
+    /**
+     * Create an immutable, read-optimized snapshot of this context's current bindings, including any bindings it
+     * inherits from its parents. Later changes to this context or its parents are not reflected in the snapshot.
+     *
+     * @return A new {@link FrozenPortalContext}.
+     */
+    public FrozenPortalContext freeze()
+    {
+        final Map<Class<?>, Binding> snapshot = new HashMap<>();
+        this.collectBindings(snapshot);
+
+        return new FrozenPortalContext(this, snapshot);
+    }
+
+    /**
+     * Store a binding directly.
+     *
+     * @param type The class to bind.
+     * @param binding The {@link Binding} to store.
+     */
+    void bind(final Class<?> type, final Binding binding)
+    {
+        this.bindings.put(type, binding);
+    }
+
+    @Override
+    public boolean hasInstance(Class<?> queryClass)
+    {
+        return this.bindings.containsKey(queryClass) || this.getInheritedBinding(queryClass) != null;
+    }
+
+    @Override
+    public <T> T take(Class<T> queryClass)
+    {
+        final Binding binding = this.findBinding(queryClass);
+        if (binding == null)
+        {
+            this.getMetrics().takeMiss(queryClass);
+            throw new NoRegisteredInstanceError(queryClass);
+        }
+
+        return this.read(queryClass, binding);
+    }
+
+    @Override
+    public <T> T takeOrNull(final Class<T> queryClass)
+    {
+        final Binding binding = this.findBinding(queryClass);
+        if (binding == null)
+        {
+            this.getMetrics().takeMiss(queryClass);
+            return null;
+        }
+
+        return this.read(queryClass, binding);
+    }
+
+    /**
+     * Read the object from a binding found for the given class, resolving its {@code Supplier} if needed.
+     *
+     * @param queryClass The class the binding was found for.
+     * @param binding The {@link Binding} to read.
+     * @param <T> The declared type of the object.
+     * @return The bound object.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(final Class<T> queryClass, final Binding binding)
+    {
+        if (binding.isResolved())
+        {
+            this.getMetrics().takeHit(queryClass);
+            return (T)binding.get();
+        }
+
+        final T instanceObject = (T)this.resolveDeferred(queryClass, binding);
+
+        // Swap in a plain binding so the Supplier can be released, unless the binding was replaced meanwhile.
+        this.bindings.replace(queryClass, binding, Binding.of(instanceObject));
+
+        return instanceObject;
+    }
+
+    @Override
+    public <T> void place(final Class<T> instanceClass, T object)
+    {
+        this.bind(instanceClass, Binding.of(object));
+    }
+
+    @Override
+    public <T> void place(final Class<T> instanceClass, Supplier<? extends T> supplier)
+    {
+        this.bind(instanceClass, Binding.deferred(supplier));
+    }
+
+    @Override
+    public <T> void placeAsync(final Class<T> instanceClass, final Supplier<? extends T> supplier, final Executor executor)
+    {
+        this.bind(instanceClass, Binding.async(instanceClass, supplier, executor));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> takeAsync(final Class<T> queryClass)
+    {
+        final Binding binding = this.findBinding(queryClass);
+
+        return this.futureOf(queryClass, binding, () -> this.read(queryClass, binding));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code SimplePortalMetrics} listener keeps in-process totals of every {@link PortalMetrics} notification. All
+ * counters are {@link LongAdder}s and latencies are kept in {@link LatencyHistogram}s, so recording scales across
+ * threads without contending on shared counters.
+ * <p>
+ * A single instance may be shared by any number of contexts and providers, in which case it reports their combined
+ * totals.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class SimplePortalMetrics implements PortalMetrics
+{
+    private final LongAdder takeHits;
+    private final LongAdder takeMisses;
+    private final LatencyHistogram supplierLatency;
+    private final LongAdder injectedFields;
+    private final LatencyHistogram injectionLatency;
+    private final LongAdder contextsCreated;
+    private final LongAdder contextsReclaimed;
+    private final LongAdder contextsReleased;
+
+    /**
+     * Creates a new listener with all counters at zero.
+     */
+    public SimplePortalMetrics()
+    {
+        super();
+
+        this.takeHits = new LongAdder();
+        this.takeMisses = new LongAdder();
+        this.supplierLatency = new LatencyHistogram();
+        this.injectedFields = new LongAdder();
+        this.injectionLatency = new LatencyHistogram();
+        this.contextsCreated = new LongAdder();
+        this.contextsReclaimed = new LongAdder();
+        this.contextsReleased = new LongAdder();
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return true;
+    }
+
+    @Override
+    public void takeHit(final Class<?> type)
+    {
+        this.takeHits.increment();
+    }
+
+    @Override
+    public void takeMiss(final Class<?> type)
+    {
+        this.takeMisses.increment();
+    }
+
+    @Override
+    public void supplierResolved(final Class<?> type, final long nanos)
+    {
+        this.supplierLatency.record(nanos);
+    }
+
+    @Override
+    public void injected(final Class<?> type, final int fieldCount, final long nanos)
+    {
+        this.injectedFields.add(fieldCount);
+        this.injectionLatency.record(nanos);
+    }
+
+    @Override
+    public void contextCreated(final PortalContextToken token)
+    {
+        this.contextsCreated.increment();
+    }
+
+    @Override
+    public void contextsReclaimed(final int count)
+    {
+        this.contextsReclaimed.add(count);
+    }
+
+    @Override
+    public void contextsReleased(final int count)
+    {
+        this.contextsReleased.add(count);
+    }
+
+    /**
+     * Fetch the number of {@code take} calls satisfied by an object which was already available.
+     *
+     * @return The number of hits.
+     */
+    public long getTakeHits()
+    {
+        return this.takeHits.sum();
+    }
+
+    /**
+     * Fetch the number of {@code take} calls which found no binding.
+     *
+     * @return The number of misses.
+     */
+    public long getTakeMisses()
+    {
+        return this.takeMisses.sum();
+    }
+
+    /**
+     * Fetch the number of {@code take} calls which resolved a {@code Supplier}.
+     *
+     * @return The number of supplier resolutions.
+     */
+    public long getSupplierResolutions()
+    {
+        return this.supplierLatency.getCount();
+    }
+
+    /**
+     * Fetch the latencies of {@code Supplier} resolutions.
+     *
+     * @return The {@link LatencyHistogram} of supplier resolutions.
+     */
+    public LatencyHistogram getSupplierLatency()
+    {
+        return this.supplierLatency;
+    }
+
+    /**
+     * Fetch the number of {@code autoInject} calls.
+     *
+     * @return The number of injections.
+     */
+    public long getInjections()
+    {
+        return this.injectionLatency.getCount();
+    }
+
+    /**
+     * Fetch the total number of fields injected by {@code autoInject} calls.
+     *
+     * @return The number of injected fields.
+     */
+    public long getInjectedFields()
+    {
+        return this.injectedFields.sum();
+    }
+
+    /**
+     * Fetch the latencies of {@code autoInject} calls.
+     *
+     * @return The {@link LatencyHistogram} of injections.
+     */
+    public LatencyHistogram getInjectionLatency()
+    {
+        return this.injectionLatency;
+    }
+
+    /**
+     * Fetch the number of contexts created by providers.
+     *
+     * @return The number of created contexts.
+     */
+    public long getContextsCreated()
+    {
+        return this.contextsCreated.sum();
+    }
+
+    /**
+     * Fetch the number of contexts dropped by providers after their tokens were collected.
+     *
+     * @return The number of reclaimed contexts.
+     */
+    public long getContextsReclaimed()
+    {
+        return this.contextsReclaimed.sum();
+    }
+
+    /**
+     * Fetch the number of contexts dropped by providers because they were released.
+     *
+     * @return The number of released contexts.
+     */
+    public long getContextsReleased()
+    {
+        return this.contextsReleased.sum();
+    }
+
+    /**
+     * Fetch the number of contexts created by providers which have been neither reclaimed nor released. Contexts
+     * registered directly with a provider are not counted when they are registered, so releasing them lowers the count.
+     *
+     * @return The number of live contexts.
+     */
+    public long getContextCount()
+    {
+        return this.contextsCreated.sum() - this.contextsReclaimed.sum() - this.contextsReleased.sum();
+    }
+}
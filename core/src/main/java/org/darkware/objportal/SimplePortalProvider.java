@@ -17,26 +17,24 @@
 
 package org.darkware.objportal;
 
-import com.google.common.primitives.Ints;
-import com.google.common.primitives.Longs;
-
-import java.util.Base64;
-import java.util.concurrent.atomic.AtomicLong;
-
 /**
  * This is a simple {@link PortalProvider} which supports multiple {@link PortalContext}s selectable by configurable
  * tokens, along with a single shared default context.
  * <p>
  * Effectively, this is the "default" implementation of a {@link PortalProvider}, supporting all of the core features
  * of the library in ways that are meant to feel natural.
+ * <p>
+ * New contexts are addressed by {@link NumericContextToken}s, which resolve without building or comparing strings.
+ * Earlier versions returned {@link SimpleContextToken}s with Base64-encoded keys. Code which casts the tokens from
+ * {@link #requestNewContext()} to {@code SimpleContextToken}, or which stores their keys, must be updated. A numeric
+ * token is never equal to a keyed token, so a stored key cannot be turned back into a {@code SimpleContextToken} to
+ * reach a context created for a numeric token.
  *
  * @author jeff@darkware.org
  * @since 2016-06-15
  */
 public class SimplePortalProvider extends TokenizedPortalProvider
 {
-    private static final AtomicLong nextId = new AtomicLong(System.currentTimeMillis());
-
     private PortalContextToken defaultToken;
 
     /**
@@ -60,10 +58,15 @@ public class SimplePortalProvider extends TokenizedPortalProvider
         return this.defaultToken;
     }
 
+    /**
+     * Create a token for a new context. The token is a {@link NumericContextToken} with a previously unused id.
+     *
+     * @return A new {@link PortalContextToken}.
+     */
     @Override
     public PortalContextToken requestNewContext()
     {
-        return new SimpleContextToken(Base64.getEncoder().encodeToString(Longs.toByteArray(SimplePortalProvider.nextId.getAndIncrement())));
+        return new NumericContextToken();
     }
 
     @Override
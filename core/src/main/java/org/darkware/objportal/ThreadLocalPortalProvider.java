@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.DefaultTokenRefusedException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code ThreadLocalPortalProvider} is a {@link PortalProvider} which assigns a soft linkage between running
+ * {@link Thread}s and {@link PortalContextToken}s. When retrieving the default {@link PortalContext}, the
+ * {@code PortalProvider} will implicitly use a token linked to the currently running thread. The provider may
+ * optionally enable a mode where threads inherit the token used by their parent threads. The resulting behavior is
+ * the same, just with a wider scope to the contextual sharing.
+ * <p>
+ * The primary result of this behavior is that the provider will use a default context which is shared across all
+ * objects created within a single thread or tree of threads. This can be particularly useful for multi-threaded
+ * applications which wish to share state among threads or thread groups without resorting to complex storage classes
+ * in thread-local storage.
+ * <p>
+ * <em>Note:</em> It's important to remember that the shared context exists strictly within the thread that
+ * <em>performs object creation</em>, not actual execution. In order to fully
+ * <p>
+ * Thread tokens are reclaimable. Once a thread has ended and no other thread or caller holds its token, the context
+ * it used is dropped from the provider along with everything placed in it.
+ *
+ * @author jeff@darkware.org
+ * @since 2016-06-12
+ */
+public class ThreadLocalPortalProvider extends TokenizedPortalProvider
+{
+    private volatile boolean inheritContext;
+    private final ThreadLocalSlotStore tokenStore = new ThreadLocalSlotStore();
+
+    /**
+     * Create a new {@link PortalProvider} that automatically assigns and retrieves contexts to Threads.
+     */
+    public ThreadLocalPortalProvider()
+    {
+        super();
+
+        this.inheritContext = false;
+        this.enableAutoCreation(true);
+    }
+
+    /**
+     * Declares whether child threads automatically inherit the {@link PortalContextToken} of their parent thread.
+     *
+     * @param value {@code true} if threads inherit their parents' tokens, {@code false} if new threads automatically
+     * generate new tokens.
+     */
+    public void enableContextInheritance(final boolean value)
+    {
+        this.inheritContext = value;
+    }
+
+    /**
+     * Fetch the {@link PortalContextToken} for the current thread. This is used as the default token for resolving the
+     * local {@link PortalContext}.
+     *
+     * @return A {@link PortalContextToken}.
+     */
+    protected PortalContextToken getCurrentThreadToken()
+    {
+        return this.getCurrentSlot().token;
+    }
+
+    /**
+     * Fetch the {@link ThreadLocalSlot} for the current thread, assigning a new token if the thread has none.
+     *
+     * @return The current thread's {@link ThreadLocalSlot}.
+     */
+    private ThreadLocalSlot getCurrentSlot()
+    {
+        ThreadLocalSlot slot = this.tokenStore.get();
+
+        if (slot == null)
+        {
+            slot = new ThreadLocalSlot((ThreadLocalContextToken)this.requestNewContext());
+            this.tokenStore.set(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Fetches the {@link PortalContext} for the current thread. Once resolved, the context is held alongside the
+     * thread's token, so later calls are a single thread-local read.
+     *
+     * @return A {@link PortalContext}.
+     */
+    @Override
+    public PortalContext getPortalContext()
+    {
+        final ThreadLocalSlot slot = this.tokenStore.get();
+        if (slot != null)
+        {
+            final PortalContext context = slot.context;
+            if (context != null) return context;
+        }
+
+        return this.resolveCurrentContext();
+    }
+
+    /**
+     * Resolve the {@link PortalContext} for the current thread's token and hold it in the thread's slot.
+     *
+     * @return The resolved {@link PortalContext}.
+     */
+    private PortalContext resolveCurrentContext()
+    {
+        final ThreadLocalSlot slot = this.getCurrentSlot();
+        final PortalContext context = this.getPortalContext(slot.token);
+        slot.context = context;
+
+        return context;
+    }
+
+    @Override
+    protected boolean isReclaimable(final PortalContextToken token)
+    {
+        return token instanceof ThreadLocalContextToken;
+    }
+
+    @Override
+    public PortalContextToken getDefaultToken()
+    {
+        return this.getCurrentThreadToken();
+    }
+
+    @Override
+    public PortalContextToken requestNewContext()
+    {
+        PortalContextToken token = new ThreadLocalContextToken();
+        return token;
+    }
+
+    @Override
+    public void useDefaultToken(final PortalContextToken defaultToken)
+    {
+        try
+        {
+            this.tokenStore.set(new ThreadLocalSlot((ThreadLocalContextToken)defaultToken));
+        }
+        catch (ClassCastException e)
+        {
+            throw new DefaultTokenRefusedException("The token was not a compatible type.", e);
+        }
+    }
+
+    @Override
+    public <T> T callIn(final PortalContextToken token, final Callable<T> action) throws Exception
+    {
+        final ThreadLocalSlot previous = this.enterSlot(token);
+        try
+        {
+            return action.call();
+        }
+        finally
+        {
+            this.restoreSlot(previous);
+        }
+    }
+
+    @Override
+    public void runIn(final PortalContextToken token, final Runnable action)
+    {
+        final ThreadLocalSlot previous = this.enterSlot(token);
+        try
+        {
+            action.run();
+        }
+        finally
+        {
+            this.restoreSlot(previous);
+        }
+    }
+
+    /**
+     * Replace the current thread's slot with one for the given token.
+     *
+     * @param token The token to adopt.
+     * @return The slot which was replaced, or {@code null} if the thread had none.
+     */
+    private ThreadLocalSlot enterSlot(final PortalContextToken token)
+    {
+        final ThreadLocalSlot previous = this.tokenStore.get();
+        this.useDefaultToken(token);
+
+        return previous;
+    }
+
+    /**
+     * Restore a slot replaced by {@link #enterSlot(PortalContextToken)}, keeping its resolved context.
+     *
+     * @param previous The slot to restore, or {@code null} to clear the thread's slot.
+     */
+    private void restoreSlot(final ThreadLocalSlot previous)
+    {
+        if (previous == null) this.tokenStore.remove();
+        else this.tokenStore.set(previous);
+    }
+
+    /**
+     * A {@code ThreadLocalSlot} holds a thread's {@link ThreadLocalContextToken} along with the {@link PortalContext}
+     * it resolved to. Threads which inherit a token share the parent's slot, and so share its resolved context.
+     */
+    private static final class ThreadLocalSlot
+    {
+        private final ThreadLocalContextToken token;
+        private volatile PortalContext context;
+
+        private ThreadLocalSlot(final ThreadLocalContextToken token)
+        {
+            super();
+
+            this.token = token;
+        }
+    }
+
+    /**
+     * This is a extension of the {@link InheritableThreadLocal} object with special behaviors set up to handle the
+     * optional inheritance of the {@link ThreadLocalSlot} for child threads.
+     */
+    private class ThreadLocalSlotStore extends InheritableThreadLocal<ThreadLocalSlot>
+    {
+        @Override
+        protected ThreadLocalSlot childValue(final ThreadLocalSlot threadLocalSlot)
+        {
+            if (ThreadLocalPortalProvider.this.inheritContext)
+            {
+                return threadLocalSlot;
+            }
+            else return null;
+        }
+    }
+
+    /**
+     * This is a extension of the {@link InheritableThreadLocal} object with special behaviors set up to handle the
+     * optional inheritance of the {@link PortalContextToken} for child threads.
+     *
+     * @deprecated The provider now stores each thread's token alongside its resolved context, and no longer uses
+     * this class. It is kept for compatibility and will be removed in a future release.
+     */
+    @Deprecated
+    public class ThreadLocalTokenStore extends InheritableThreadLocal<ThreadLocalContextToken>
+    {
+        @Override
+        protected ThreadLocalContextToken childValue(final ThreadLocalContextToken threadLocalContextToken)
+        {
+            if (ThreadLocalPortalProvider.this.inheritContext)
+            {
+                return threadLocalContextToken;
+            }
+            else return null;
+        }
+    }
+
+    /**
+     * This is the implementation of {@link PortalContextToken} which is used for resolving {@link PortalContext}s
+     * within a {@link ThreadLocalPortalProvider}.
+     */
+    public static class ThreadLocalContextToken extends DefaultContextToken
+    {
+        private static final AtomicLong nextId = new AtomicLong(1L);
+
+        private final long contextThreadId;
+
+        /**
+         * Create a new token.
+         */
+        public ThreadLocalContextToken()
+        {
+            super();
+
+            this.contextThreadId = ThreadLocalContextToken.nextId.getAndIncrement();
+        }
+
+        @Override
+        protected String generateKey()
+        {
+            return "Thread-" + this.contextThreadId;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.UnrecognizedTokenException;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code TokenizedPortalProvider} class provides a base implementation of a {@link PortalProvider} which uses
+ * {@link PortalContextToken}s to select {@link PortalContext}s.
+ * <p>
+ * Resolving the context for a known token never takes a lock. When automatic creation is enabled, each unrecognized
+ * token has exactly one context created for it, even when many threads request it at once.
+ * <p>
+ * Contexts for {@link NumericContextToken}s are kept in a registry keyed by the token's primitive id, so resolving them
+ * neither hashes nor compares strings, and resolving a known token allocates nothing. Contexts which are no longer
+ * needed can be dropped with {@link #releaseContext(PortalContextToken)}.
+ * <p>
+ * Subclasses may declare some tokens to be reclaimable. Contexts registered under reclaimable tokens are only weakly
+ * tied to their token, and are dropped from the provider once every reference to the token is gone. This keeps
+ * short-lived tokens, such as those assigned to threads, from holding their contexts forever.
+ * <p>
+ * Context creation and reclamation are reported to the provider's {@link PortalMetrics}. When a listener has been set
+ * with {@link #useMetrics(PortalMetrics)}, it is also given to every {@link AbstractPortalContext} the provider creates.
+ *
+ * @author jeff@darkware.org
+ * @since 2016-06-12
+ */
+public abstract class TokenizedPortalProvider implements PortalProvider
+{
+    private final ConcurrentMap<PortalContextToken, PortalContext> contexts;
+    private final NumericContextRegistry numericContexts;
+    private final ConcurrentMap<Object, PortalContext> reclaimableContexts;
+    private final ReferenceQueue<PortalContextToken> reclaimedTokens;
+    private final AtomicLong reclaimedCount;
+    private volatile boolean autoCreate;
+    private volatile SimplePortalContext parentContext;
+    private volatile ContextTemplate contextTemplate;
+    private volatile PortalMetrics metrics;
+
+    /**
+     * Creates a new {@code TokenizedPortalProvider} with an empty set of providers.
+     */
+    public TokenizedPortalProvider()
+    {
+        super();
+
+        this.contexts = new ConcurrentHashMap<>();
+        this.numericContexts = new NumericContextRegistry();
+        this.reclaimableContexts = new ConcurrentHashMap<>();
+        this.reclaimedTokens = new ReferenceQueue<>();
+        this.reclaimedCount = new AtomicLong(0L);
+        this.metrics = NoPortalMetrics.INSTANCE;
+    }
+
+    /**
+     * Declare whether this provider should automatically createContext new {@link PortalContext}s whenever an attempt is
+     * made to fetch an unrecognized context.
+     *
+     * @param value {@code true} if contexts should be created for unrecognized {@link PortalContextToken}s,
+     * {@code false} if exceptions should be thrown when unrecognized {@code PortalContextToken}s are encountered.
+     */
+    protected void enableAutoCreation(final boolean value)
+    {
+        this.autoCreate = value;
+    }
+
+    /**
+     * Declares whether the context for the given token may be reclaimed once the token is no longer referenced. By
+     * default no tokens are reclaimable. Subclasses should only return {@code true} for tokens which are never
+     * recreated from their key, since a reclaimed context is gone for good.
+     *
+     * @param token The {@link PortalContextToken} to check.
+     * @return {@code true} if the context should be held only as long as the token is reachable, otherwise
+     * {@code false}.
+     */
+    @SuppressWarnings("unused")
+    protected boolean isReclaimable(final PortalContextToken token)
+    {
+        return false;
+    }
+
+    @Override
+    public PortalContext getPortalContext(final PortalContextToken token)
+    {
+        if (token instanceof NumericContextToken) return this.getNumericContext((NumericContextToken)token);
+        if (this.isReclaimable(token)) return this.getReclaimableContext(token);
+
+        final PortalContext context = this.contexts.get(token);
+        if (context != null) return context;
+
+        if (!this.autoCreate) throw new UnrecognizedTokenException(token);
+
+        return this.contexts.computeIfAbsent(token, this::newContext);
+    }
+
+    /**
+     * Fetch the {@link PortalContext} for a numeric token, creating it if needed.
+     *
+     * @param token The {@link NumericContextToken}.
+     * @return The associated {@link PortalContext}.
+     */
+    private PortalContext getNumericContext(final NumericContextToken token)
+    {
+        final PortalContext context = this.numericContexts.find(token.getId());
+        if (context != null) return context;
+
+        return this.createNumericContext(token);
+    }
+
+    /**
+     * Confirm a missed lookup for a numeric token under the registry's lock, creating the context if it is still
+     * missing and automatic creation is enabled.
+     *
+     * @param token The {@link NumericContextToken}.
+     * @return The associated {@link PortalContext}.
+     */
+    private PortalContext createNumericContext(final NumericContextToken token)
+    {
+        if (this.autoCreate) return this.numericContexts.computeIfAbsent(token.getId(), id -> this.newContext(token));
+
+        final PortalContext context = this.numericContexts.get(token.getId());
+        if (context == null) throw new UnrecognizedTokenException(token);
+
+        return context;
+    }
+
+    /**
+     * Fetch the {@link PortalContext} for a reclaimable token, creating it if needed.
+     *
+     * @param token The reclaimable {@link PortalContextToken}.
+     * @return The associated {@link PortalContext}.
+     */
+    private PortalContext getReclaimableContext(final PortalContextToken token)
+    {
+        final PortalContext context = this.reclaimableContexts.get(new TokenLookup(token));
+        if (context != null) return context;
+
+        if (!this.autoCreate) throw new UnrecognizedTokenException(token);
+
+        this.expungeReclaimedContexts();
+        return this.reclaimableContexts.computeIfAbsent(new TokenReference(token, this.reclaimedTokens),
+                                                        ref -> this.newContext(token));
+    }
+
+    /**
+     * Drop any contexts whose reclaimable tokens have been collected.
+     */
+    protected void expungeReclaimedContexts()
+    {
+        int reclaimed = 0;
+        Reference<? extends PortalContextToken> ref;
+        while ((ref = this.reclaimedTokens.poll()) != null)
+        {
+            if (this.reclaimableContexts.remove(ref) != null) reclaimed++;
+        }
+
+        if (reclaimed > 0)
+        {
+            this.reclaimedCount.addAndGet(reclaimed);
+            this.metrics.contextsReclaimed(reclaimed);
+        }
+    }
+
+    /**
+     * Fetch the number of contexts currently held by this provider. Contexts whose tokens have been collected are
+     * expunged before counting.
+     *
+     * @return The number of live contexts.
+     */
+    public int getLiveContextCount()
+    {
+        this.expungeReclaimedContexts();
+
+        return this.contexts.size() + this.numericContexts.size() + this.reclaimableContexts.size();
+    }
+
+    /**
+     * Fetch the number of contexts which have been dropped because their tokens were collected.
+     *
+     * @return The total number of reclaimed contexts.
+     */
+    public long getReclaimedContextCount()
+    {
+        this.expungeReclaimedContexts();
+
+        return this.reclaimedCount.get();
+    }
+
+    /**
+     * Declare a context which all contexts created by this provider from now on will use as their parent. Bindings
+     * placed in the parent are shared by every child instead of being placed into each one.
+     *
+     * @param parent The parent {@link SimplePortalContext}, or {@code null} to create contexts without a parent.
+     */
+    public void useParentContext(final SimplePortalContext parent)
+    {
+        this.parentContext = parent;
+    }
+
+    /**
+     * Declare a {@link ContextTemplate} which all contexts created by this provider from now on will be built from.
+     * A template takes precedence over a parent context set with {@link #useParentContext(SimplePortalContext)}.
+     *
+     * @param template The {@link ContextTemplate} to build contexts from, or {@code null} to stop using a template.
+     */
+    public void useContextTemplate(final ContextTemplate template)
+    {
+        this.contextTemplate = template;
+    }
+
+    /**
+     * Declare the {@link PortalMetrics} listener which this provider reports to. Contexts created from now on report
+     * to the same listener, while existing contexts are left unchanged.
+     *
+     * @param listener The {@link PortalMetrics} to report to. Use {@link NoPortalMetrics#INSTANCE} to stop reporting.
+     */
+    public void useMetrics(final PortalMetrics listener)
+    {
+        if (listener == null) throw new IllegalArgumentException("Metrics listener cannot be null.");
+        this.metrics = listener;
+    }
+
+    /**
+     * Create the context for a newly seen token through {@link #createContext(PortalContextToken)}, and report it to
+     * the provider's {@link PortalMetrics} and as a {@link ContextCreationEvent}.
+     *
+     * @param token The {@link PortalContextToken} which will be associated with the new context.
+     * @return A new {@link PortalContext} object.
+     */
+    private PortalContext newContext(final PortalContextToken token)
+    {
+        final Object event = PortalEvents.recorder.beginContextCreation();
+
+        final PortalMetrics listener = this.metrics;
+        final PortalContext context = this.createContext(token);
+        if (context instanceof AbstractPortalContext)
+        {
+            ((AbstractPortalContext)context).assignToken(token);
+            if (listener != NoPortalMetrics.INSTANCE) ((AbstractPortalContext)context).useMetrics(listener);
+        }
+        listener.contextCreated(token);
+
+        PortalEvents.recorder.commit(event, context.getClass(), token.getTokenKey());
+
+        return context;
+    }
+
+    /**
+     * Create a new {@link PortalContext} suitable for the given token.
+     * <p>
+     * This may be called while other threads wait for the same token to resolve, so implementations should be quick
+     * and must not resolve contexts from this provider.
+     *
+     * @param token The {@link PortalContextToken} which will be associated with the new context.
+     * @return A new {@link PortalContext} object.
+     */
+    @SuppressWarnings("unused")
+    protected PortalContext createContext(final PortalContextToken token)
+    {
+        final ContextTemplate template = this.contextTemplate;
+        if (template != null) return template.newContext();
+
+        return new SimplePortalContext(this.parentContext);
+    }
+
+    /**
+     * Registers a {@link PortalContext} with the given {@link PortalContextToken}. This will replace any existing
+     * context under the same token.
+     *
+     * @param token The token to register.
+     * @param context The context to register.
+     */
+    protected void registerContext(final PortalContextToken token, final PortalContext context)
+    {
+        if (context instanceof AbstractPortalContext) ((AbstractPortalContext)context).assignToken(token);
+
+        if (token instanceof NumericContextToken) this.numericContexts.put(((NumericContextToken)token).getId(), context);
+        else if (this.isReclaimable(token))
+        {
+            this.expungeReclaimedContexts();
+            this.reclaimableContexts.put(new TokenReference(token, this.reclaimedTokens), context);
+        }
+        else this.contexts.put(token, context);
+    }
+
+    /**
+     * Drop the context registered under the given token. Providers which create a context per request or per task
+     * should release each one once it is finished with, so that the provider does not hold every context it has ever
+     * created. A later request for the same token creates a fresh context if automatic creation is enabled.
+     *
+     * @param token The token whose context should be dropped.
+     * @return {@code true} if a context was registered under the token, otherwise {@code false}.
+     */
+    public boolean releaseContext(final PortalContextToken token)
+    {
+        final PortalContext released;
+        if (token instanceof NumericContextToken) released = this.numericContexts.remove(((NumericContextToken)token).getId());
+        else if (this.isReclaimable(token))
+        {
+            this.expungeReclaimedContexts();
+            released = this.reclaimableContexts.remove(new TokenLookup(token));
+        }
+        else released = this.contexts.remove(token);
+
+        if (released == null) return false;
+
+        this.metrics.contextsReleased(1);
+        return true;
+    }
+
+    /**
+     * A {@code TokenReference} weakly refers to a reclaimable {@link PortalContextToken} while keying it by the
+     * token's own equality. Once the token is collected, the reference only matches itself so that it can be removed.
+     * References are only created when a context is registered; lookups use a {@link TokenLookup} instead.
+     */
+    private static final class TokenReference extends WeakReference<PortalContextToken>
+    {
+        private final int hash;
+
+        private TokenReference(final PortalContextToken token, final ReferenceQueue<PortalContextToken> queue)
+        {
+            super(token, queue);
+
+            this.hash = token.hashCode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object that)
+        {
+            if (this == that) return true;
+            if (that instanceof TokenLookup) return ((TokenLookup)that).equals(this);
+            if (!(that instanceof TokenReference)) return false;
+
+            final PortalContextToken token = this.get();
+            return token != null && token.equals(((TokenReference)that).get());
+        }
+    }
+
+    /**
+     * A {@code TokenLookup} is a plain key used to find or remove a {@link TokenReference} by its token. It matches
+     * references with the same equality and hash, without allocating a {@link WeakReference} for every lookup.
+     */
+    private static final class TokenLookup
+    {
+        private final PortalContextToken token;
+
+        private TokenLookup(final PortalContextToken token)
+        {
+            super();
+
+            this.token = token;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.token.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object that)
+        {
+            if (that instanceof TokenReference) return this.token.equals(((TokenReference)that).get());
+
+            return that instanceof TokenLookup && this.token.equals(((TokenLookup)that).token);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code TypeIndex} assigns every {@link Class} used as a binding type a small, dense integer id. Ids are
+ * assigned once per class, the first time the class is bound, and are shared by all contexts.
+ * <p>
+ * Reads use {@link #find(Class)}, which never assigns an id. Probing a context for a class which has never been bound
+ * anywhere is a miss, so lookups of arbitrary classes do not grow the id space or the slot arrays indexed by it.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+final class TypeIndex
+{
+    private static final AtomicInteger nextId = new AtomicInteger(0);
+    private static final ClassValue<Id> ids = new ClassValue<Id>()
+    {
+        @Override
+        protected Id computeValue(final Class<?> type)
+        {
+            return new Id();
+        }
+    };
+
+    private TypeIndex()
+    {
+        super();
+    }
+
+    /**
+     * Fetch the id for the given class, assigning one if needed. This should only be used when binding a class.
+     *
+     * @param type The class to look up.
+     * @return The class's id.
+     */
+    static int of(final Class<?> type)
+    {
+        final Id id = TypeIndex.ids.get(type);
+        final int value = id.value;
+        if (value >= 0) return value;
+
+        synchronized (id)
+        {
+            if (id.value < 0) id.value = TypeIndex.nextId.getAndIncrement();
+            return id.value;
+        }
+    }
+
+    /**
+     * Fetch the id for the given class without assigning one.
+     *
+     * @param type The class to look up.
+     * @return The class's id, or {@code -1} if the class has never been bound.
+     */
+    static int find(final Class<?> type)
+    {
+        return TypeIndex.ids.get(type).value;
+    }
+
+    /**
+     * The id holder attached to each class. Holders start out unassigned.
+     */
+    private static final class Id
+    {
+        private volatile int value = -1;
+    }
+}
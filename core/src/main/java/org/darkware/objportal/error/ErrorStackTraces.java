@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.error;
+
+/**
+ * {@code ErrorStackTraces} controls whether ObjectPortal's control-flow errors capture a stack trace. These errors
+ * report expected outcomes, such as a lookup for a class with no registered instance. Code which sees many of them
+ * can turn stack capture off so that each error costs no more than its allocation. Messages for these errors are also
+ * built only when they are requested.
+ * <p>
+ * Stack traces are captured by default. The initial setting can be changed by starting the JVM with
+ * {@code -Dobjportal.stacklessErrors=true}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public final class ErrorStackTraces
+{
+    private static volatile boolean enabled = !Boolean.getBoolean("objportal.stacklessErrors");
+
+    private ErrorStackTraces()
+    {
+        super();
+    }
+
+    /**
+     * Checks whether newly created control-flow errors capture a stack trace.
+     *
+     * @return {@code true} if stack traces are captured, otherwise {@code false}.
+     */
+    public static boolean isEnabled()
+    {
+        return ErrorStackTraces.enabled;
+    }
+
+    /**
+     * Declare whether newly created control-flow errors should capture a stack trace.
+     *
+     * @param value {@code true} to capture stack traces, {@code false} to skip them.
+     */
+    public static void enable(final boolean value)
+    {
+        ErrorStackTraces.enabled = value;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.error;
+
+import org.darkware.objportal.PortalContext;
+
+/**
+ * This exception is thrown whenever an attempt is made to place an instance into a frozen {@link PortalContext}.
+ * Its message is built lazily and its stack trace can be skipped through {@link ErrorStackTraces}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class FrozenContextError extends RuntimeException
+{
+    private final Class<?> instanceClass;
+
+    /**
+     * Creates a new error reporting an attempt to modify a frozen context.
+     *
+     * @param instanceClass The class which was being placed.
+     */
+    public FrozenContextError(final Class<?> instanceClass)
+    {
+        super(null, null, true, ErrorStackTraces.isEnabled());
+
+        this.instanceClass = instanceClass;
+    }
+
+    /**
+     * Fetch the class which was being placed.
+     *
+     * @return The placed {@link Class}.
+     */
+    public Class<?> getInstanceClass()
+    {
+        return this.instanceClass;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        return "Cannot place an instance for class " + this.instanceClass.getName() + " into a frozen context.";
+    }
+}
@@ -23,12 +23,17 @@ import org.darkware.objportal.PortalContext;
  * This exception is thrown whenever an {@link PortalContext} fails to resolve a requested
  * instance because no instance was registered under the requested {@link Class} or a
  * suitable alias.
+ * <p>
+ * This error is part of normal control flow, so its message is built lazily and its stack trace can be skipped
+ * through {@link ErrorStackTraces}.
  *
  * @author jeff@darkware.org
  * @since 2016-06-09
  */
 public class NoRegisteredInstanceError extends RuntimeException
 {
+    private final Class<?> queryClass;
+
     /**
      * Creates a new error reporting a failure to resolve a class instance.
      *
@@ -36,6 +41,24 @@ public class NoRegisteredInstanceError extends RuntimeException
      */
     public NoRegisteredInstanceError(final Class<?> queryClass)
     {
-        super("No registered instance found for class: " + queryClass.getName());
+        super(null, null, true, ErrorStackTraces.isEnabled());
+
+        this.queryClass = queryClass;
+    }
+
+    /**
+     * Fetch the class which had no registered instance.
+     *
+     * @return The queried {@link Class}.
+     */
+    public Class<?> getQueryClass()
+    {
+        return this.queryClass;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        return "No registered instance found for class: " + this.queryClass.getName();
     }
 }
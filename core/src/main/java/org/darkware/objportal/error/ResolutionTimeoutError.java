@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.error;
+
+import org.darkware.objportal.PortalContext;
+
+import java.time.Duration;
+
+/**
+ * This exception is thrown when a deadline-bounded {@link PortalContext#take(Class, Duration)} gives up waiting for an
+ * asynchronous binding to finish building. Its message is built lazily and its stack trace can be skipped through
+ * {@link ErrorStackTraces}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class ResolutionTimeoutError extends RuntimeException
+{
+    private final Class<?> queryClass;
+    private final Duration timeout;
+
+    /**
+     * Creates a new error reporting a binding which was not ready in time.
+     *
+     * @param queryClass The class which was queried.
+     * @param timeout The time which was allowed for the binding to be ready.
+     */
+    public ResolutionTimeoutError(final Class<?> queryClass, final Duration timeout)
+    {
+        super(null, null, true, ErrorStackTraces.isEnabled());
+
+        this.queryClass = queryClass;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Fetch the class whose binding was not ready in time.
+     *
+     * @return The queried {@link Class}.
+     */
+    public Class<?> getQueryClass()
+    {
+        return this.queryClass;
+    }
+
+    /**
+     * Fetch the time which was allowed for the binding to be ready.
+     *
+     * @return The timeout {@link Duration}.
+     */
+    public Duration getTimeout()
+    {
+        return this.timeout;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        return "Instance for class " + this.queryClass.getName() + " was not ready within " + this.timeout;
+    }
+}
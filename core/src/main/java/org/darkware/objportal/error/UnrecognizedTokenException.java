@@ -20,15 +20,24 @@ package org.darkware.objportal.error;
 import org.darkware.objportal.PortalContextToken;
 import org.darkware.objportal.PortalProvider;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
 /**
  * An {@code UnrecognizedTokenException} is thrown when a {@link PortalProvider} encounters a token that it doesn't
  * recognize and it lacks the ability or configuration to automatically create a new context.
+ * <p>
+ * Its message is built lazily and its stack trace can be skipped through {@link ErrorStackTraces}. Tokens are not
+ * serializable, so a serialized exception carries only the token's class name and key.
  *
  * @author jeff@darkware.org
  * @since 2016-06-12
  */
 public class UnrecognizedTokenException extends RuntimeException
 {
+    private final transient PortalContextToken token;
+    private String tokenDescription;
+
     /**
      * Create a new {@code UnrecognizedTokenException} reporting the token that wasn't recognized.
      *
@@ -36,6 +45,44 @@ public class UnrecognizedTokenException extends RuntimeException
      */
     public UnrecognizedTokenException(final PortalContextToken token)
     {
-        super("Unrecognized token: " + token.getClass().getName() + "::" + token.getTokenKey());
+        super(null, null, true, ErrorStackTraces.isEnabled());
+
+        this.token = token;
+    }
+
+    /**
+     * Fetch the token which wasn't recognized.
+     *
+     * @return The unrecognized {@link PortalContextToken}, or {@code null} if this exception was deserialized.
+     */
+    public PortalContextToken getToken()
+    {
+        return this.token;
+    }
+
+    /**
+     * Describe the unrecognized token by its class name and key.
+     *
+     * @return A {@code String} description of the token.
+     */
+    private String describeToken()
+    {
+        if (this.tokenDescription == null)
+        {
+            this.tokenDescription = this.token.getClass().getName() + "::" + this.token.getTokenKey();
+        }
+        return this.tokenDescription;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        return "Unrecognized token: " + this.describeToken();
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        this.describeToken();
+        out.defaultWriteObject();
     }
 }
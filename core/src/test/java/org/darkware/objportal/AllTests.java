@@ -32,11 +32,21 @@ import org.junit.runners.Suite;
                 HappyPathTests.class,
 
                 ObjectPortalFacadeTests.class,
+                PortalHandleTests.class,
+
+                InjectionPlanTests.class,
+                InjectorStrategyTests.class,
+                GeneratedInjectorTests.class,
+                InstanceFactoryTests.class,
 
                 PortalContextTests.class,
                 PortalProviderTests.class,
 
-                PortalContextTokenTests.class
+                PortalContextTokenTests.class,
+                NumericContextRegistryTests.class,
+
+                PortalMetricsTests.class,
+                PortalEventTests.class
         })
 public class AllTests
 {
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.FrozenContextError;
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.darkware.objportal.error.ObjectCreationError;
+import org.darkware.objportal.error.ResolutionTimeoutError;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for bindings built in the background and the non-blocking and deadline-bounded reads of them.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class AsyncBindingTests
+{
+    protected ExecutorService executor;
+    protected CountDownLatch gate;
+    protected Supplier<String> gatedName;
+
+    @Before
+    public void setup()
+    {
+        this.executor = Executors.newSingleThreadExecutor();
+        this.gate = new CountDownLatch(1);
+        this.gatedName = () ->
+        {
+            try
+            {
+                this.gate.await();
+            }
+            catch (InterruptedException e)
+            {
+                throw new IllegalStateException(e);
+            }
+            return "name";
+        };
+    }
+
+    @After
+    public void shutdown()
+    {
+        this.gate.countDown();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void placeAsync_buildsInBackground() throws Exception
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        Supplier<String> name = () -> Thread.currentThread().getName();
+        context.placeAsync(String.class, name, this.executor);
+
+        assertThat(context.hasInstance(String.class)).isTrue();
+        assertThat(context.take(String.class)).isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void takeAsync_doesNotBlock() throws Exception
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        context.placeAsync(String.class, this.gatedName, this.executor);
+
+        CompletableFuture<String> future = context.takeAsync(String.class);
+        assertThat(future.isDone()).isFalse();
+
+        this.gate.countDown();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("name");
+        assertThat(context.take(String.class)).isEqualTo("name");
+    }
+
+    @Test
+    public void takeAsync_plainBindings() throws Exception
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        context.place(Integer.class, 42);
+        Supplier<Long> number = () -> 7L;
+        context.place(Long.class, number);
+
+        assertThat(context.takeAsync(Integer.class).get()).isEqualTo(42);
+        assertThat(context.takeAsync(Long.class).get()).isEqualTo(7L);
+    }
+
+    @Test
+    public void takeAsync_missing()
+    {
+        CompletableFuture<String> future = new SimplePortalContext().takeAsync(String.class);
+
+        assertThat(future.isCompletedExceptionally()).isTrue();
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(future::get)
+                .withCauseInstanceOf(NoRegisteredInstanceError.class);
+    }
+
+    @Test
+    public void takeWithDeadline_timesOut()
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        context.placeAsync(String.class, this.gatedName, this.executor);
+
+        assertThatExceptionOfType(ResolutionTimeoutError.class)
+                .isThrownBy(() -> context.take(String.class, Duration.ofMillis(20)))
+                .withMessageContaining("java.lang.String");
+
+        this.gate.countDown();
+        assertThat(context.take(String.class, Duration.ofSeconds(5))).isEqualTo("name");
+    }
+
+    @Test
+    public void takeWithDeadline_missing()
+    {
+        assertThatExceptionOfType(NoRegisteredInstanceError.class)
+                .isThrownBy(() -> new SimplePortalContext().take(String.class, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void supplierFailure()
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        Supplier<String> broken = () ->
+        {
+            throw new IllegalStateException("broken");
+        };
+        context.placeAsync(String.class, broken, this.executor);
+
+        assertThatExceptionOfType(ObjectCreationError.class)
+                .isThrownBy(() -> context.take(String.class))
+                .withRootCauseInstanceOf(IllegalStateException.class);
+        assertThatExceptionOfType(ObjectCreationError.class)
+                .isThrownBy(() -> context.take(String.class, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void indexed() throws Exception
+    {
+        IndexedPortalContext context = new IndexedPortalContext();
+        context.placeAsync(String.class, this.gatedName, this.executor);
+
+        CompletableFuture<String> future = context.takeAsync(String.class);
+        assertThat(future.isDone()).isFalse();
+
+        this.gate.countDown();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("name");
+        assertThat(context.take(String.class)).isEqualTo("name");
+    }
+
+    @Test
+    public void frozen() throws Exception
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        context.placeAsync(String.class, this.gatedName, this.executor);
+        FrozenPortalContext frozen = context.freeze();
+
+        CompletableFuture<String> future = frozen.takeAsync(String.class);
+        assertThat(future.isDone()).isFalse();
+
+        this.gate.countDown();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("name");
+
+        assertThatExceptionOfType(FrozenContextError.class)
+                .isThrownBy(() -> frozen.placeAsync(String.class, this.gatedName, this.executor));
+    }
+
+    @Test
+    public void injection() throws Exception
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        context.place(Integer.class, 42);
+        context.placeAsync(String.class, this.gatedName, this.executor);
+        this.gate.countDown();
+
+        assertThat(context.newInstance(Target.class).name).isEqualTo("name");
+    }
+
+    /** A class injected with an asynchronously built dependency. */
+    public static class Target
+    {
+        @Inject
+        String name;
+    }
+}
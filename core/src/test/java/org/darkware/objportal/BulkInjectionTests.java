@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the batch injection methods of {@link PortalContext}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class BulkInjectionTests
+{
+    protected SimplePortalContext context;
+
+    @Before
+    public void setup()
+    {
+        this.context = new SimplePortalContext();
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "name");
+    }
+
+    @Test
+    public void iterable_mixedClasses()
+    {
+        List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+        {
+            objects.add(new SimpleTestClass());
+            objects.add(new Named());
+        }
+
+        this.context.autoInjectAll(objects);
+
+        for (Object object : objects)
+        {
+            if (object instanceof Named) assertThat(((Named)object).name).isEqualTo("name");
+            else assertThat(((SimpleTestClass)object).getAnswer()).isEqualTo(42);
+        }
+    }
+
+    @Test
+    public void array_injected()
+    {
+        Named[] objects = { new Named(), new Named() };
+
+        this.context.autoInjectAll(objects);
+
+        for (Named named : objects) assertThat(named.name).isEqualTo("name");
+    }
+
+    @Test
+    public void stream_parallel()
+    {
+        List<Named> objects = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) objects.add(new Named());
+
+        this.context.autoInjectAll(objects.parallelStream());
+
+        for (Named named : objects) assertThat(named.name).isEqualTo("name");
+    }
+
+    @Test
+    public void array_forkJoin()
+    {
+        Object[] objects = new Object[10000];
+        for (int i = 0; i < objects.length; i++) objects[i] = (i % 2 == 0) ? new Named() : new SimpleTestClass();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            this.context.autoInjectAll(objects, pool);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < objects.length; i += 2) assertThat(((Named)objects[i]).name).isEqualTo("name");
+        for (int i = 1; i < objects.length; i += 2) assertThat(((SimpleTestClass)objects[i]).getAnswer()).isEqualTo(42);
+    }
+
+    @Test
+    public void dependencies_resolvedOncePerBatch()
+    {
+        CountingContext counting = new CountingContext();
+        counting.place(String.class, "name");
+
+        counting.autoInjectAll(Arrays.asList(new Named(), new Named(), new Named()));
+
+        assertThat(counting.takes.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void missing_dependency()
+    {
+        assertThatExceptionOfType(NoRegisteredInstanceError.class)
+                .isThrownBy(() -> new SimplePortalContext().autoInjectAll(Arrays.asList(new Named())));
+    }
+
+    @Test
+    public void supplier_resolvedOnce()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Long> supplier = () -> {
+            calls.incrementAndGet();
+            return 7L;
+        };
+        this.context.place(Long.class, supplier);
+
+        Identified[] objects = { new Identified(), new Identified() };
+        this.context.autoInjectAll(objects);
+
+        assertThat(objects[1].id).isEqualTo(7L);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void facade_usesDefaultContext()
+    {
+        SimplePortalProvider provider = new SimplePortalProvider();
+        provider.getPortalContext().place(String.class, "facade");
+        ObjectPortal.useProvider(provider);
+
+        Named named = new Named();
+        ObjectPortal.autoInjectAll(Arrays.asList(named));
+
+        assertThat(named.name).isEqualTo("facade");
+    }
+
+    /** A class with an injected name. */
+    public static class Named
+    {
+        @Inject
+        private String name;
+    }
+
+    /** A class with an injected id. */
+    public static class Identified
+    {
+        @Inject
+        private Long id;
+    }
+
+    /** A context which counts how many instances it has handed out. */
+    public static class CountingContext extends SimplePortalContext
+    {
+        private final AtomicInteger takes = new AtomicInteger();
+
+        @Override
+        public <T> T take(final Class<T> queryClass)
+        {
+            this.takes.incrementAndGet();
+            return super.take(queryClass);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.ObjectCreationError;
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link SimplePortalContext} with {@link CompiledInjector}s enabled. This repeats all of the
+ * {@link SimplePortalContextTests} to ensure that compiled creation behaves identically.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class CompiledInjectorTests extends SimplePortalContextTests
+{
+    @Before
+    @Override
+    public void setup()
+    {
+        this.context = new SimplePortalContext();
+        this.context.enableCompiledInjectors(true);
+    }
+
+    @Test
+    public void compiled_injectsAllFields()
+    {
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "name");
+
+        FieldHolder holder = this.context.newInstance(FieldHolder.class);
+
+        assertThat(holder.getAnswer()).isEqualTo(42);
+        assertThat(holder.name).isEqualTo("name");
+        assertThat(holder.fixed).isEqualTo("name");
+    }
+
+    @Test
+    public void compiled_cached() throws Exception
+    {
+        InjectionPlan plan = InjectionPlan.forClass(FieldHolder.class);
+
+        assertThat(plan.getCompiledInjector()).isSameAs(plan.getCompiledInjector());
+        assertThat(plan.getCompiledInjector().getDependencyCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void compiled_missingDependency()
+    {
+        assertThatExceptionOfType(ObjectCreationError.class)
+                .isThrownBy(() -> this.context.newInstance(FieldHolder.class))
+                .withCauseInstanceOf(NoRegisteredInstanceError.class);
+    }
+
+    /** A class with inherited and final injected fields. */
+    public static class FieldHolder extends SimpleTestClass
+    {
+        @Inject
+        private String name;
+
+        @Inject
+        private final String fixed = String.valueOf("original");
+    }
+}
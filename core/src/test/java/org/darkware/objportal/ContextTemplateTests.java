@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link ContextTemplate} class.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class ContextTemplateTests
+{
+    protected SimplePortalContext source;
+    protected ContextTemplate template;
+
+    @Before
+    public void setup()
+    {
+        this.source = new SimplePortalContext();
+        this.source.place(Integer.class, 42);
+        this.source.place(String.class, "template");
+        this.template = ContextTemplate.of(this.source);
+    }
+
+    @Test
+    public void newContext_hasTemplateBindings()
+    {
+        SimplePortalContext context = this.template.newContext();
+
+        assertThat(this.template.hasInstance(Integer.class)).isTrue();
+        assertThat(context.take(Integer.class)).isEqualTo(42);
+        assertThat(context.take(String.class)).isEqualTo("template");
+        assertThat(context.newInstance(SimpleTestClass.class).getAnswer()).isEqualTo(42);
+    }
+
+    @Test
+    public void newContext_placeIsLocal()
+    {
+        SimplePortalContext first = this.template.newContext();
+        SimplePortalContext second = this.template.newContext();
+
+        first.place(Integer.class, 99);
+        first.place(Long.class, 7L);
+
+        assertThat(first.take(Integer.class)).isEqualTo(99);
+        assertThat(second.take(Integer.class)).isEqualTo(42);
+        assertThat(second.hasInstance(Long.class)).isFalse();
+        assertThat(this.template.hasInstance(Long.class)).isFalse();
+    }
+
+    @Test
+    public void template_sharesSuppliersWithSource()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Long> supplier = () -> (long)calls.incrementAndGet();
+        this.source.place(Long.class, supplier);
+        ContextTemplate shared = ContextTemplate.of(this.source);
+
+        Long fromTemplate = shared.newContext().take(Long.class);
+
+        assertThat(this.source.take(Long.class)).isSameAs(fromTemplate);
+        assertThat(shared.newContext().take(Long.class)).isSameAs(fromTemplate);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void template_isSnapshot()
+    {
+        this.source.place(Integer.class, 99);
+        this.source.place(Long.class, 7L);
+
+        SimplePortalContext context = this.template.newContext();
+
+        assertThat(context.take(Integer.class)).isEqualTo(42);
+        assertThat(context.hasInstance(Long.class)).isFalse();
+    }
+
+    @Test
+    public void template_flattensParents()
+    {
+        SimplePortalContext child = new SimplePortalContext(this.source);
+        child.place(String.class, "child");
+
+        SimplePortalContext context = ContextTemplate.of(child).newContext();
+
+        assertThat(context.take(Integer.class)).isEqualTo(42);
+        assertThat(context.take(String.class)).isEqualTo("child");
+    }
+
+    @Test
+    public void template_childrenOfCreatedContexts()
+    {
+        SimplePortalContext context = this.template.newContext();
+        context.place(String.class, "context");
+
+        SimplePortalContext grandchild = new SimplePortalContext(context);
+
+        assertThat(grandchild.take(Integer.class)).isEqualTo(42);
+        assertThat(grandchild.take(String.class)).isEqualTo("context");
+        assertThat(grandchild.hasInstance(Long.class)).isFalse();
+    }
+
+    @Test
+    public void provider_buildsFromTemplate()
+    {
+        SimplePortalProvider provider = new SimplePortalProvider();
+        provider.useParentContext(new SimplePortalContext());
+        provider.useContextTemplate(this.template);
+
+        PortalContext context = provider.getPortalContext(provider.requestNewContext());
+
+        assertThat(context.take(Integer.class)).isEqualTo(42);
+        assertThat(provider.getPortalContext(provider.requestNewContext())).isNotSameAs(context);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.FrozenContextError;
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link FrozenPortalContext} class.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class FrozenPortalContextTests
+{
+    protected SimplePortalContext source;
+
+    @Before
+    public void setup()
+    {
+        this.source = new SimplePortalContext();
+        this.source.place(Integer.class, 42);
+        this.source.place(String.class, "name");
+    }
+
+    @Test
+    public void take_frozenBindings()
+    {
+        FrozenPortalContext frozen = this.source.freeze();
+
+        assertThat(frozen.take(Integer.class)).isEqualTo(42);
+        assertThat(frozen.take(String.class)).isEqualTo("name");
+        assertThat(frozen.hasInstance(Integer.class)).isTrue();
+        assertThat(frozen.hasInstance(Long.class)).isFalse();
+        assertThatExceptionOfType(NoRegisteredInstanceError.class).isThrownBy(() -> frozen.take(Long.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void take_manyBindings()
+    {
+        Class<?>[] types = { Byte.class, Short.class, Long.class, Float.class, Double.class, Character.class,
+                             Boolean.class, StringBuilder.class, Object.class, Number.class, CharSequence.class,
+                             Runnable.class, Thread.class, ThreadGroup.class, ClassLoader.class, Class.class };
+        for (Class<?> type : types) this.source.place((Class<Object>)type, (Object)type.getName());
+
+        FrozenPortalContext frozen = this.source.freeze();
+
+        for (Class<?> type : types) assertThat(frozen.take(type)).isEqualTo(type.getName());
+        assertThat(frozen.take(Integer.class)).isEqualTo(42);
+        assertThat(frozen.hasInstance(Void.class)).isFalse();
+        assertThat(frozen.thaw().take(Thread.class)).isEqualTo(Thread.class.getName());
+    }
+
+    @Test
+    public void take_emptySnapshot()
+    {
+        FrozenPortalContext frozen = new SimplePortalContext().freeze();
+
+        assertThat(frozen.hasInstance(Integer.class)).isFalse();
+        assertThat(frozen.takeOrNull(Integer.class)).isNull();
+    }
+
+    @Test
+    public void newInstance_injects()
+    {
+        FrozenPortalContext frozen = this.source.freeze();
+
+        assertThat(frozen.newInstance(SimpleTestClass.class).getAnswer()).isEqualTo(42);
+    }
+
+    @Test
+    public void place_fails()
+    {
+        FrozenPortalContext frozen = this.source.freeze();
+        Supplier<Long> supplier = () -> 7L;
+
+        assertThatExceptionOfType(FrozenContextError.class).isThrownBy(() -> frozen.place(Long.class, 7L));
+        assertThatExceptionOfType(FrozenContextError.class).isThrownBy(() -> frozen.place(Long.class, supplier));
+        assertThat(frozen.hasInstance(Long.class)).isFalse();
+    }
+
+    @Test
+    public void freeze_isSnapshot()
+    {
+        FrozenPortalContext frozen = this.source.freeze();
+
+        this.source.place(Integer.class, 99);
+        this.source.place(Long.class, 7L);
+
+        assertThat(frozen.take(Integer.class)).isEqualTo(42);
+        assertThat(frozen.hasInstance(Long.class)).isFalse();
+    }
+
+    @Test
+    public void supplier_sharedAndLazy()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Long> supplier = () -> {
+            calls.incrementAndGet();
+            return 7L;
+        };
+        this.source.place(Long.class, supplier);
+
+        FrozenPortalContext frozen = this.source.freeze();
+        assertThat(calls.get()).isEqualTo(0);
+
+        assertThat(frozen.take(Long.class)).isEqualTo(7L);
+        assertThat(this.source.take(Long.class)).isEqualTo(7L);
+        assertThat(frozen.take(Long.class)).isEqualTo(7L);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void thaw_mutableCopy()
+    {
+        FrozenPortalContext frozen = this.source.freeze();
+
+        SimplePortalContext successor = frozen.thaw();
+        successor.place(Integer.class, 99);
+
+        assertThat(successor.take(Integer.class)).isEqualTo(99);
+        assertThat(successor.take(String.class)).isEqualTo("name");
+        assertThat(frozen.take(Integer.class)).isEqualTo(42);
+        assertThat(successor.freeze().take(Integer.class)).isEqualTo(99);
+    }
+
+    @Test
+    public void freeze_keepsSettings()
+    {
+        this.source.enableCompiledInjectors(true);
+
+        FrozenPortalContext frozen = this.source.freeze();
+
+        assertThat(frozen.newInstance(SimpleTestClass.class).getAnswer()).isEqualTo(42);
+    }
+}
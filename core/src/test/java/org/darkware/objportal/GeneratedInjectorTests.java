@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the use of {@link GeneratedInjector}s discovered through an {@link InjectorIndex}. The index and injector
+ * used here are written by hand in the same form the annotation processor generates.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class GeneratedInjectorTests
+{
+    protected SimplePortalContext context;
+
+    @Before
+    public void setup()
+    {
+        this.context = new SimplePortalContext();
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "name");
+    }
+
+    @Test
+    public void plan_usesIndex()
+    {
+        InjectionPlan plan = InjectionPlan.forClass(IndexedClass.class);
+
+        assertThat(plan.getGeneratedInjector()).isInstanceOf(IndexedClassInjector.class);
+        assertThat(plan.getFieldCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void plan_notIndexed()
+    {
+        assertThat(InjectionPlan.forClass(SimpleTestClass.class).getGeneratedInjector()).isNull();
+    }
+
+    @Test
+    public void newInstance_generated()
+    {
+        IndexedClass instance = this.context.newInstance(IndexedClass.class);
+
+        assertThat(instance.answer).isEqualTo(42);
+        assertThat(instance.createdByInjector).isTrue();
+    }
+
+    @Test
+    public void autoInject_generated()
+    {
+        IndexedClass instance = new IndexedClass();
+        this.context.autoInject(instance);
+
+        assertThat(instance.answer).isEqualTo(42);
+    }
+
+    @Test
+    public void autoInject_subclassOfIndexed()
+    {
+        IndexedChildClass instance = this.context.newInstance(IndexedChildClass.class);
+
+        assertThat(InjectionPlan.forClass(IndexedChildClass.class).getFieldCount()).isEqualTo(2);
+        assertThat(instance.answer).isEqualTo(42);
+        assertThat(instance.name).isEqualTo("name");
+    }
+
+    @Test
+    public void pooled_generatedRefreshed()
+    {
+        IndexedRecyclable instance = this.context.newPooledInstance(IndexedRecyclable.class);
+        this.context.release(instance);
+
+        this.context.place(Integer.class, 99);
+
+        IndexedRecyclable reused = this.context.newPooledInstance(IndexedRecyclable.class);
+        assertThat(reused).isSameAs(instance);
+        assertThat(reused.answer).isEqualTo(99);
+    }
+
+    /** A class which has a generated injector. */
+    public static class IndexedClass
+    {
+        @Inject
+        Integer answer;
+
+        boolean createdByInjector;
+    }
+
+    /** A class which extends an indexed class, but has no generated injector itself. */
+    public static class IndexedChildClass extends IndexedClass
+    {
+        @Inject
+        String name;
+    }
+
+    /** An injector in the form generated by the annotation processor. */
+    public static final class IndexedClassInjector implements GeneratedInjector<IndexedClass>
+    {
+        @Override
+        public Class<IndexedClass> getTargetClass()
+        {
+            return IndexedClass.class;
+        }
+
+        @Override
+        public int getFieldCount()
+        {
+            return 1;
+        }
+
+        @Override
+        public IndexedClass newInstance(final PortalContext context)
+        {
+            IndexedClass instance = new IndexedClass();
+            instance.createdByInjector = true;
+            this.inject(instance, context);
+            return instance;
+        }
+
+        @Override
+        public void inject(final IndexedClass target, final PortalContext context)
+        {
+            target.answer = context.take(Integer.class);
+        }
+    }
+
+    /** A recyclable class which has a generated injector. */
+    public static class IndexedRecyclable implements Recyclable
+    {
+        @Inject
+        Integer answer;
+
+        @Override
+        public void reset()
+        {
+            // Nothing to clear.
+        }
+    }
+
+    /** An injector in the form generated by the annotation processor. */
+    public static final class IndexedRecyclableInjector implements GeneratedInjector<IndexedRecyclable>
+    {
+        @Override
+        public Class<IndexedRecyclable> getTargetClass()
+        {
+            return IndexedRecyclable.class;
+        }
+
+        @Override
+        public int getFieldCount()
+        {
+            return 1;
+        }
+
+        @Override
+        public IndexedRecyclable newInstance(final PortalContext context)
+        {
+            IndexedRecyclable instance = new IndexedRecyclable();
+            this.inject(instance, context);
+            return instance;
+        }
+
+        @Override
+        public void inject(final IndexedRecyclable target, final PortalContext context)
+        {
+            target.answer = context.take(Integer.class);
+        }
+    }
+
+    /** An index in the form generated by the annotation processor. */
+    public static final class TestInjectorIndex implements InjectorIndex
+    {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> GeneratedInjector<T> getInjector(final Class<T> targetClass)
+        {
+            switch (targetClass.getName())
+            {
+                case "org.darkware.objportal.GeneratedInjectorTests$IndexedClass":
+                    return (GeneratedInjector<T>)new IndexedClassInjector();
+                case "org.darkware.objportal.GeneratedInjectorTests$IndexedRecyclable":
+                    return (GeneratedInjector<T>)new IndexedRecyclableInjector();
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link SimplePortalContext}s arranged in parent and child hierarchies.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class HierarchicalContextTests
+{
+    protected SimplePortalContext parent;
+    protected SimplePortalContext child;
+
+    @Before
+    public void setup()
+    {
+        this.parent = new SimplePortalContext();
+        this.child = new SimplePortalContext(this.parent);
+    }
+
+    @Test
+    public void take_inheritsFromParent()
+    {
+        this.parent.place(Integer.class, 42);
+
+        assertThat(this.child.getParent()).isSameAs(this.parent);
+        assertThat(this.child.hasInstance(Integer.class)).isTrue();
+        assertThat(this.child.take(Integer.class)).isEqualTo(42);
+        assertThat(this.child.newInstance(SimpleTestClass.class).getAnswer()).isEqualTo(42);
+    }
+
+    @Test
+    public void place_overridesLocally()
+    {
+        this.parent.place(Integer.class, 42);
+        this.child.place(Integer.class, 99);
+
+        assertThat(this.child.take(Integer.class)).isEqualTo(99);
+        assertThat(this.parent.take(Integer.class)).isEqualTo(42);
+    }
+
+    @Test
+    public void take_missingEverywhere()
+    {
+        assertThat(this.child.hasInstance(Integer.class)).isFalse();
+        assertThatExceptionOfType(NoRegisteredInstanceError.class).isThrownBy(() -> this.child.take(Integer.class));
+    }
+
+    @Test
+    public void supplier_sharedAcrossChildren()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<StringBuilder> supplier = () -> {
+            calls.incrementAndGet();
+            return new StringBuilder();
+        };
+        this.parent.place(StringBuilder.class, supplier);
+
+        SimplePortalContext sibling = new SimplePortalContext(this.parent);
+
+        StringBuilder first = this.child.take(StringBuilder.class);
+        assertThat((Object)sibling.take(StringBuilder.class)).isSameAs(first);
+        assertThat((Object)this.parent.take(StringBuilder.class)).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void inherited_followsParentChanges()
+    {
+        this.parent.place(Integer.class, 42);
+        assertThat(this.child.take(Integer.class)).isEqualTo(42);
+
+        this.parent.place(Integer.class, 99);
+        assertThat(this.child.take(Integer.class)).isEqualTo(99);
+    }
+
+    @Test
+    public void inherited_followsGrandparentChanges()
+    {
+        SimplePortalContext grandchild = new SimplePortalContext(this.child);
+
+        this.parent.place(Integer.class, 42);
+        assertThat(grandchild.take(Integer.class)).isEqualTo(42);
+
+        this.child.place(Integer.class, 7);
+        assertThat(grandchild.take(Integer.class)).isEqualTo(7);
+
+        this.parent.place(String.class, "name");
+        assertThat(grandchild.take(String.class)).isEqualTo("name");
+        assertThat(grandchild.take(Integer.class)).isEqualTo(7);
+    }
+
+    @Test
+    public void freeze_flattensChain()
+    {
+        this.parent.place(Integer.class, 42);
+        this.parent.place(String.class, "parent");
+        this.child.place(String.class, "child");
+
+        FrozenPortalContext frozen = this.child.freeze();
+
+        assertThat(frozen.take(Integer.class)).isEqualTo(42);
+        assertThat(frozen.take(String.class)).isEqualTo("child");
+    }
+
+    @Test
+    public void provider_createsChildren()
+    {
+        this.parent.place(Integer.class, 42);
+
+        SimplePortalProvider provider = new SimplePortalProvider();
+        provider.useParentContext(this.parent);
+
+        PortalContextToken token = provider.requestNewContext();
+        PortalContext context = provider.getPortalContext(token);
+        context.place(String.class, "local");
+
+        assertThat(context.take(Integer.class)).isEqualTo(42);
+        assertThat(this.parent.hasInstance(String.class)).isFalse();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link IndexedPortalContext}. This repeats all of the {@link SimplePortalContextTests} to ensure that
+ * indexed storage behaves identically.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class IndexedPortalContextTests extends SimplePortalContextTests
+{
+    @Before
+    @Override
+    public void setup()
+    {
+        this.context = new IndexedPortalContext();
+    }
+
+    @Test
+    public void typeIndex_stable()
+    {
+        assertThat(TypeIndex.of(Integer.class)).isEqualTo(TypeIndex.of(Integer.class));
+        assertThat(TypeIndex.of(Integer.class)).isNotEqualTo(TypeIndex.of(String.class));
+    }
+
+    @Test
+    public void take_unbound()
+    {
+        assertThatExceptionOfType(NoRegisteredInstanceError.class).isThrownBy(() -> this.context.take(Short.class));
+        assertThat(this.context.hasInstance(Short.class)).isFalse();
+    }
+
+    @Test
+    public void lookups_doNotAssignIds()
+    {
+        assertThat(this.context.hasInstance(NeverBound.class)).isFalse();
+        assertThat(this.context.takeOrNull(NeverBound.class)).isNull();
+        assertThatExceptionOfType(NoRegisteredInstanceError.class).isThrownBy(() -> this.context.take(NeverBound.class));
+        assertThat(new SimplePortalContext().freeze().hasInstance(NeverBound.class)).isFalse();
+
+        assertThat(TypeIndex.find(NeverBound.class)).isEqualTo(-1);
+
+        this.context.place(Bound.class, new Bound());
+        assertThat(TypeIndex.find(Bound.class)).isEqualTo(TypeIndex.of(Bound.class)).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void place_growsSlots()
+    {
+        Class<?>[] types = { Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+                             Character.class, Boolean.class, String.class, StringBuilder.class, Object.class,
+                             Number.class, CharSequence.class, Runnable.class, Thread.class, ThreadGroup.class,
+                             ClassLoader.class, Class.class, Void.class, Enum.class };
+
+        for (Class<?> type : types) this.place(type);
+        for (Class<?> type : types) assertThat(this.context.take(type)).isEqualTo(type.getName());
+    }
+
+    @Test
+    public void autoInject_multipleFields()
+    {
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "name");
+        this.context.place(Long.class, 7L);
+
+        MultiField target = this.context.newInstance(MultiField.class);
+
+        assertThat(target.answer).isEqualTo(42);
+        assertThat(target.name).isEqualTo("name");
+        assertThat(target.id).isEqualTo(7L);
+    }
+
+    /**
+     * Bind the type's name under the given type, regardless of the type.
+     *
+     * @param type The type to bind.
+     */
+    @SuppressWarnings("unchecked")
+    private void place(final Class<?> type)
+    {
+        ((PortalContext)this.context).place((Class<Object>)type, (Object)type.getName());
+    }
+
+    /** A class which is only ever probed, never bound. */
+    public static class NeverBound
+    {
+    }
+
+    /** A class which is bound by a single test. */
+    public static class Bound
+    {
+    }
+
+    /** A class with several injected fields. */
+    public static class MultiField
+    {
+        @Inject
+        private Integer answer;
+        @Inject
+        private String name;
+        @Inject
+        private Long id;
+    }
+}
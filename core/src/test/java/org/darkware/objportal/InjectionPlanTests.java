@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Test;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link InjectionPlan} class.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class InjectionPlanTests
+{
+    @Test
+    public void plan_cached()
+    {
+        assertThat(InjectionPlan.forClass(SimpleTestClass.class)).isSameAs(InjectionPlan.forClass(SimpleTestClass.class));
+    }
+
+    @Test
+    public void plan_simple()
+    {
+        InjectionPlan plan = InjectionPlan.forClass(SimpleTestClass.class);
+
+        assertThat(plan.getTargetClass()).isEqualTo(SimpleTestClass.class);
+        assertThat(plan.getFieldCount()).isEqualTo(1);
+        assertThat(plan.getFieldType(0)).isEqualTo(Integer.class);
+        assertThat(plan.getField(0).isAccessible()).isTrue();
+    }
+
+    @Test
+    public void plan_noFields()
+    {
+        assertThat(InjectionPlan.forClass(Object.class).getFieldCount()).isEqualTo(0);
+        assertThat(InjectionPlan.forClass(String.class).getFieldCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void plan_ancestorFieldsFirst()
+    {
+        InjectionPlan plan = InjectionPlan.forClass(ChildClass.class);
+
+        assertThat(plan.getFieldCount()).isEqualTo(2);
+        assertThat(plan.getField(0).getDeclaringClass()).isEqualTo(ParentClass.class);
+        assertThat(plan.getField(1).getDeclaringClass()).isEqualTo(ChildClass.class);
+    }
+
+    @Test
+    public void plan_usedForInjection()
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        context.place(Integer.class, 42);
+        context.place(String.class, "answer");
+
+        ChildClass child = context.newInstance(ChildClass.class);
+
+        assertThat(((ParentClass)child).answer).isEqualTo(42);
+        assertThat(child.name).isEqualTo("answer");
+        assertThat(child.ignored).isNull();
+    }
+
+    @Test
+    public void injectors_reusedAcrossStrategies()
+    {
+        InjectionPlan plan = InjectionPlan.forClass(SimpleTestClass.class);
+
+        FieldInjector[] reflective = plan.getInjectors(ReflectionInjectorStrategy.INSTANCE);
+        FieldInjector[] handles = plan.getInjectors(MethodHandleInjectorStrategy.INSTANCE);
+
+        assertThat(plan.getInjectors(ReflectionInjectorStrategy.INSTANCE)).isSameAs(reflective);
+        assertThat(plan.getInjectors(MethodHandleInjectorStrategy.INSTANCE)).isSameAs(handles);
+    }
+
+    @Test
+    public void lazyType_matchesProcessorRule() throws Exception
+    {
+        assertThat(InjectionPlan.lazyType(LazyClass.class.getDeclaredField("name"))).isEqualTo(String.class);
+        assertThat(InjectionPlan.lazyType(LazyClass.class.getDeclaredField("names"))).isNull();
+        assertThat(InjectionPlan.lazyType(LazyClass.class.getDeclaredField("raw"))).isNull();
+    }
+
+    /** A class with lazy and non-lazy provider fields. */
+    @SuppressWarnings("rawtypes")
+    public static class LazyClass
+    {
+        @Inject
+        private Provider<String> name;
+        @Inject
+        private Provider<String[]> names;
+        @Inject
+        private Provider raw;
+    }
+
+    /** A parent class with an injected field. */
+    public static class ParentClass
+    {
+        @Inject
+        private Integer answer;
+    }
+
+    /** A child class with an injected field of its own. */
+    public static class ChildClass extends ParentClass
+    {
+        @Inject
+        private String name;
+        private String ignored;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.InjectionError;
+import org.junit.Test;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link InjectorStrategy} implementations.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class InjectorStrategyTests
+{
+    @Test
+    public void reflection_inject()
+    {
+        FieldHolder holder = new FieldHolder();
+        this.injector(ReflectionInjectorStrategy.INSTANCE, "value").inject(holder, 42);
+
+        assertThat(holder.value).isEqualTo(42);
+    }
+
+    @Test
+    public void reflection_finalField()
+    {
+        FieldHolder holder = new FieldHolder();
+        this.injector(ReflectionInjectorStrategy.INSTANCE, "fixed").inject(holder, "changed");
+
+        assertThat(holder.getFixed()).isEqualTo("changed");
+    }
+
+    @Test
+    public void reflection_wrongType()
+    {
+        assertThatExceptionOfType(InjectionError.class)
+                .isThrownBy(() -> this.injector(ReflectionInjectorStrategy.INSTANCE, "value").inject(new FieldHolder(), "wrong"));
+    }
+
+    @Test
+    public void methodHandle_inject()
+    {
+        FieldHolder holder = new FieldHolder();
+        this.injector(MethodHandleInjectorStrategy.INSTANCE, "value").inject(holder, 42);
+
+        assertThat(holder.value).isEqualTo(42);
+    }
+
+    @Test
+    public void methodHandle_finalFieldFallback()
+    {
+        FieldHolder holder = new FieldHolder();
+        this.injector(MethodHandleInjectorStrategy.INSTANCE, "fixed").inject(holder, "changed");
+
+        assertThat(holder.getFixed()).isEqualTo("changed");
+    }
+
+    @Test
+    public void methodHandle_staticField()
+    {
+        this.injector(MethodHandleInjectorStrategy.INSTANCE, "shared").inject(new FieldHolder(), "static");
+
+        assertThat(FieldHolder.shared).isEqualTo("static");
+    }
+
+    @Test
+    public void methodHandle_wrongType()
+    {
+        assertThatExceptionOfType(InjectionError.class)
+                .isThrownBy(() -> this.injector(MethodHandleInjectorStrategy.INSTANCE, "value").inject(new FieldHolder(), "wrong"));
+    }
+
+    @Test
+    public void context_switchStrategy()
+    {
+        SimplePortalContext context = new SimplePortalContext();
+        context.place(Integer.class, 42);
+
+        context.useInjectorStrategy(ReflectionInjectorStrategy.INSTANCE);
+        assertThat(context.newInstance(SimpleTestClass.class).getAnswer()).isEqualTo(42);
+
+        context.useInjectorStrategy(MethodHandleInjectorStrategy.INSTANCE);
+        assertThat(context.newInstance(SimpleTestClass.class).getAnswer()).isEqualTo(42);
+    }
+
+    @Test
+    public void plan_injectorsCached()
+    {
+        InjectionPlan plan = InjectionPlan.forClass(SimpleTestClass.class);
+
+        assertThat(plan.getInjectors(MethodHandleInjectorStrategy.INSTANCE))
+                .isSameAs(plan.getInjectors(MethodHandleInjectorStrategy.INSTANCE));
+        assertThat(plan.getInjectors(ReflectionInjectorStrategy.INSTANCE))
+                .isSameAs(plan.getInjectors(ReflectionInjectorStrategy.INSTANCE));
+    }
+
+    /**
+     * Create an injector for the named field of the {@link FieldHolder} class.
+     *
+     * @param strategy The strategy to create the injector with.
+     * @param fieldName The name of the field.
+     * @return A {@link FieldInjector}.
+     */
+    private FieldInjector injector(final InjectorStrategy strategy, final String fieldName)
+    {
+        InjectionPlan plan = InjectionPlan.forClass(FieldHolder.class);
+        for (int i = 0; i < plan.getFieldCount(); i++)
+        {
+            if (plan.getField(i).getName().equals(fieldName)) return strategy.createInjector(plan.getField(i));
+        }
+
+        throw new IllegalArgumentException("No such field: " + fieldName);
+    }
+
+    /** A class with a variety of injectable fields. */
+    public static class FieldHolder
+    {
+        @Inject
+        private static String shared;
+
+        @Inject
+        private Integer value;
+
+        @Inject
+        private final String fixed = String.valueOf("original");
+
+        /** Fetch the value of the final field. */
+        public String getFixed()
+        {
+            return this.fixed;
+        }
+    }
+}
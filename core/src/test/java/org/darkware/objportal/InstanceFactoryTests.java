@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.darkware.objportal.error.ObjectCreationError;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link InstanceFactory} and constructor injection.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class InstanceFactoryTests
+{
+    protected SimplePortalContext context;
+
+    @Before
+    public void setup()
+    {
+        this.context = new SimplePortalContext();
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "name");
+    }
+
+    @Test
+    public void factory_cached() throws Exception
+    {
+        InjectionPlan plan = InjectionPlan.forClass(ImmutableService.class);
+
+        assertThat(plan.getInstanceFactory()).isSameAs(plan.getInstanceFactory());
+        assertThat(plan.getInstanceFactory().getParameterCount()).isEqualTo(2);
+        assertThat(plan.getInstanceFactory().getParameterType(0)).isEqualTo(Integer.class);
+        assertThat(plan.getInstanceFactory().getParameterType(1)).isEqualTo(String.class);
+    }
+
+    @Test
+    public void factory_defaultConstructor() throws Exception
+    {
+        assertThat(InjectionPlan.forClass(SimpleTestClass.class).getInstanceFactory().getParameterCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void newInstance_constructorInjection()
+    {
+        ImmutableService service = this.context.newInstance(ImmutableService.class);
+
+        assertThat(service.answer).isEqualTo(42);
+        assertThat(service.name).isEqualTo("name");
+    }
+
+    @Test
+    public void newInstance_constructorAndFieldInjection()
+    {
+        MixedService service = this.context.newInstance(MixedService.class);
+
+        assertThat(service.answer).isEqualTo(42);
+        assertThat(service.name).isEqualTo("name");
+    }
+
+    @Test
+    public void newInstance_privateInjectConstructor()
+    {
+        assertThat(this.context.newInstance(PrivateConstructorService.class).answer).isEqualTo(42);
+    }
+
+    @Test
+    public void newInstance_primitiveArgument()
+    {
+        this.context.place(int.class, 7);
+
+        assertThat(this.context.newInstance(PrimitiveService.class).count).isEqualTo(7);
+    }
+
+    @Test
+    public void newInstance_compiled()
+    {
+        this.context.enableCompiledInjectors(true);
+
+        MixedService service = this.context.newInstance(MixedService.class);
+
+        assertThat(service.answer).isEqualTo(42);
+        assertThat(service.name).isEqualTo("name");
+    }
+
+    @Test
+    public void newInstance_missingArgument()
+    {
+        assertThatExceptionOfType(ObjectCreationError.class)
+                .isThrownBy(() -> new SimplePortalContext().newInstance(ImmutableService.class))
+                .withCauseInstanceOf(NoRegisteredInstanceError.class);
+    }
+
+    @Test
+    public void newInstance_multipleInjectConstructors()
+    {
+        assertThatExceptionOfType(ObjectCreationError.class)
+                .isThrownBy(() -> this.context.newInstance(AmbiguousService.class))
+                .withCauseInstanceOf(InstantiationException.class);
+    }
+
+    /** A class which receives all of its dependencies through its constructor. */
+    public static class ImmutableService
+    {
+        private final Integer answer;
+        private final String name;
+
+        /** Create the service. */
+        @Inject
+        public ImmutableService(final Integer answer, final String name)
+        {
+            super();
+
+            this.answer = answer;
+            this.name = name;
+        }
+    }
+
+    /** A class which uses both constructor and field injection. */
+    public static class MixedService
+    {
+        private final Integer answer;
+        @Inject
+        private String name;
+
+        /** Create the service. */
+        @Inject
+        public MixedService(final Integer answer)
+        {
+            super();
+
+            this.answer = answer;
+        }
+    }
+
+    /** A class with a private injection constructor. */
+    public static class PrivateConstructorService
+    {
+        private final Integer answer;
+
+        @Inject
+        private PrivateConstructorService(final Integer answer)
+        {
+            super();
+
+            this.answer = answer;
+        }
+    }
+
+    /** A class with a primitive constructor argument. */
+    public static class PrimitiveService
+    {
+        private final int count;
+
+        /** Create the service. */
+        @Inject
+        public PrimitiveService(final int count)
+        {
+            super();
+
+            this.count = count;
+        }
+    }
+
+    /** A class with more than one injection constructor. */
+    public static class AmbiguousService
+    {
+        /** One constructor. */
+        @Inject
+        public AmbiguousService(final Integer answer)
+        {
+            super();
+        }
+
+        /** Another constructor. */
+        @Inject
+        public AmbiguousService(final String name)
+        {
+            super();
+        }
+    }
+}
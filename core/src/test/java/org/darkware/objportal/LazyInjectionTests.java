@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for lazy injection of {@link Provider} and {@link Supplier} fields.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class LazyInjectionTests
+{
+    protected SimplePortalContext context;
+    protected AtomicInteger created;
+
+    @Before
+    public void setup()
+    {
+        this.created = new AtomicInteger();
+
+        Supplier<Expensive> expensive = () -> {
+            this.created.incrementAndGet();
+            return new Expensive();
+        };
+
+        this.context = new SimplePortalContext();
+        this.context.place(Expensive.class, expensive);
+        this.context.place(String.class, "name");
+        this.context.place(Integer.class, 42);
+    }
+
+    @Test
+    public void provider_deferredUntilGet()
+    {
+        Consumer consumer = this.context.newInstance(Consumer.class);
+
+        assertThat(consumer.expensive).isInstanceOf(LazyDependency.class);
+        assertThat(this.created.get()).isEqualTo(0);
+
+        Expensive first = consumer.expensive.get();
+
+        assertThat(this.created.get()).isEqualTo(1);
+        assertThat(first).isSameAs(this.context.take(Expensive.class));
+    }
+
+    @Test
+    public void provider_cachedPerHandle()
+    {
+        Consumer consumer = this.context.newInstance(Consumer.class);
+
+        Expensive first = consumer.expensive.get();
+
+        assertThat(consumer.expensive.get()).isSameAs(first);
+        assertThat(((LazyDependency<?>)consumer.expensive).isResolved()).isTrue();
+    }
+
+    @Test
+    public void supplier_deferredUntilGet()
+    {
+        Consumer consumer = this.context.newInstance(Consumer.class);
+
+        assertThat(consumer.name).isInstanceOf(LazyDependency.class);
+        assertThat(((LazyDependency<?>)consumer.name).getType()).isEqualTo(String.class);
+        assertThat(consumer.name.get()).isEqualTo("name");
+    }
+
+    @Test
+    public void eagerFieldsUnchanged()
+    {
+        Consumer consumer = this.context.newInstance(Consumer.class);
+
+        assertThat(consumer.answer).isEqualTo(42);
+    }
+
+    @Test
+    public void parameterizedArgument_usesRawType()
+    {
+        List<String> names = new ArrayList<>(Arrays.asList("a", "b"));
+        this.context.place(List.class, names);
+
+        Listing listing = this.context.newInstance(Listing.class);
+
+        assertThat(listing.names.get()).isSameAs(names);
+    }
+
+    @Test
+    public void resolvesAgainstInjectingContext()
+    {
+        Consumer consumer = this.context.newInstance(Consumer.class);
+
+        SimplePortalContext other = new SimplePortalContext();
+        other.place(String.class, "other");
+        other.place(Integer.class, 7);
+        other.autoInject(consumer);
+
+        assertThat(consumer.name.get()).isEqualTo("other");
+    }
+
+    @Test
+    public void compiled_deferredUntilGet()
+    {
+        this.context.enableCompiledInjectors(true);
+
+        Consumer consumer = this.context.newInstance(Consumer.class);
+
+        assertThat(this.created.get()).isEqualTo(0);
+        assertThat(consumer.expensive.get()).isSameAs(this.context.take(Expensive.class));
+        assertThat(consumer.answer).isEqualTo(42);
+    }
+
+    @Test
+    public void batch_deferredUntilGet()
+    {
+        List<Consumer> consumers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) consumers.add(new Consumer());
+
+        this.context.autoInjectAll(consumers);
+
+        assertThat(this.created.get()).isEqualTo(0);
+        for (Consumer consumer : consumers) assertThat(consumer.expensive.get()).isSameAs(this.context.take(Expensive.class));
+        assertThat(this.created.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void pooled_freshHandle()
+    {
+        Consumer consumer = this.context.newPooledInstance(Consumer.class);
+        consumer.name.get();
+        this.context.release(consumer);
+
+        this.context.place(String.class, "changed");
+
+        Consumer reused = this.context.newPooledInstance(Consumer.class);
+        assertThat(reused).isSameAs(consumer);
+        assertThat(reused.name.get()).isEqualTo("changed");
+    }
+
+    /** A dependency which is expensive to create. */
+    public static class Expensive
+    {
+    }
+
+    /** A recyclable class with lazily injected fields. */
+    public static class Consumer implements Recyclable
+    {
+        @Inject
+        private Provider<Expensive> expensive;
+        @Inject
+        private Supplier<String> name;
+        @Inject
+        private Integer answer;
+
+        @Override
+        public void reset()
+        {
+            // Nothing to clear.
+        }
+    }
+
+    /** A class with a lazy field of a parameterized type. */
+    public static class Listing
+    {
+        @Inject
+        private Provider<List<String>> names;
+    }
+}
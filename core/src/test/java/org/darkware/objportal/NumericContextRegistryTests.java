@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link NumericContextRegistry}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class NumericContextRegistryTests
+{
+    protected NumericContextRegistry registry;
+
+    @Before
+    public void init()
+    {
+        this.registry = new NumericContextRegistry();
+    }
+
+    @Test
+    public void get_missing()
+    {
+        assertThat(this.registry.get(42L)).isNull();
+        assertThat(this.registry.get(0L)).isNull();
+    }
+
+    @Test
+    public void put_manyWithResize()
+    {
+        List<PortalContext> contexts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            PortalContext context = new SimplePortalContext();
+            contexts.add(context);
+            this.registry.put(i * 4096L - 500L, context);
+        }
+
+        assertThat(this.registry.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) assertThat(this.registry.get(i * 4096L - 500L)).isSameAs(contexts.get(i));
+        assertThat(this.registry.get(-1L)).isNull();
+    }
+
+    @Test
+    public void put_replaces()
+    {
+        PortalContext replacement = new SimplePortalContext();
+        this.registry.put(Long.MIN_VALUE, new SimplePortalContext());
+        this.registry.put(Long.MIN_VALUE, replacement);
+
+        assertThat(this.registry.get(Long.MIN_VALUE)).isSameAs(replacement);
+        assertThat(this.registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void remove()
+    {
+        PortalContext context = new SimplePortalContext();
+        this.registry.put(42L, context);
+        this.registry.put(0L, context);
+
+        assertThat(this.registry.remove(42L)).isSameAs(context);
+        assertThat(this.registry.remove(42L)).isNull();
+        assertThat(this.registry.remove(0L)).isSameAs(context);
+        assertThat(this.registry.get(42L)).isNull();
+        assertThat(this.registry.get(0L)).isNull();
+        assertThat(this.registry.size()).isEqualTo(0);
+
+        this.registry.put(42L, context);
+        assertThat(this.registry.get(42L)).isSameAs(context);
+        assertThat(this.registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void remove_keepsTableBounded()
+    {
+        PortalContext context = new SimplePortalContext();
+        for (long id = 1; id <= 100_000; id++)
+        {
+            this.registry.put(id, context);
+            if (id > 8) assertThat(this.registry.remove(id - 8)).isSameAs(context);
+        }
+
+        assertThat(this.registry.size()).isEqualTo(8);
+        assertThat(this.registry.capacity()).isLessThanOrEqualTo(64);
+        for (long id = 99_993; id <= 100_000; id++) assertThat(this.registry.get(id)).isSameAs(context);
+    }
+
+    @Test
+    public void computeIfAbsent_concurrentSingleCreation() throws Exception
+    {
+        final int threads = 16;
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger created = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<PortalContext>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++)
+            {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    PortalContext last = null;
+                    for (long id = 0; id < 200; id++)
+                    {
+                        last = this.registry.computeIfAbsent(id, key -> {
+                            created.incrementAndGet();
+                            return new SimplePortalContext();
+                        });
+                    }
+                    return last;
+                }));
+            }
+            start.countDown();
+
+            PortalContext first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<PortalContext> result : results) assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        assertThat(created.get()).isEqualTo(200);
+        assertThat(this.registry.size()).isEqualTo(200);
+    }
+
+    @Test
+    public void provider_resolvesNumericTokens()
+    {
+        TokenizedProviderTests.CountingProvider provider = new TokenizedProviderTests.CountingProvider();
+        PortalContext context = provider.getPortalContext(new NumericContextToken(5L));
+
+        assertThat(provider.getPortalContext(new NumericContextToken(5L))).isSameAs(context);
+        assertThat(provider.getLiveContextCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void provider_releasesContexts()
+    {
+        TokenizedProviderTests.CountingProvider provider = new TokenizedProviderTests.CountingProvider();
+        NumericContextToken numeric = new NumericContextToken(5L);
+        SimpleContextToken simple = new SimpleContextToken("released");
+        PortalContext context = provider.getPortalContext(numeric);
+        provider.getPortalContext(simple);
+
+        assertThat(provider.releaseContext(numeric)).isTrue();
+        assertThat(provider.releaseContext(numeric)).isFalse();
+        assertThat(provider.releaseContext(simple)).isTrue();
+        assertThat(provider.getLiveContextCount()).isEqualTo(0);
+        assertThat(provider.getPortalContext(numeric)).isNotSameAs(context);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.ErrorStackTraces;
+import org.darkware.objportal.error.FrozenContextError;
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.darkware.objportal.error.UnrecognizedTokenException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for non-throwing lookups, optional injection and stackless control-flow errors.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class OptionalLookupTests
+{
+    protected SimplePortalContext context;
+
+    @Before
+    public void setup()
+    {
+        this.context = new SimplePortalContext();
+        this.context.place(Integer.class, 42);
+    }
+
+    @After
+    public void restoreTraces()
+    {
+        ErrorStackTraces.enable(true);
+    }
+
+    @Test
+    public void takeOrNull_simple()
+    {
+        assertThat(this.context.takeOrNull(Integer.class)).isEqualTo(42);
+        assertThat(this.context.takeOrNull(String.class)).isNull();
+    }
+
+    @Test
+    public void takeOrNull_inherited()
+    {
+        SimplePortalContext child = new SimplePortalContext(this.context);
+
+        assertThat(child.takeOrNull(Integer.class)).isEqualTo(42);
+        assertThat(child.takeOrNull(String.class)).isNull();
+    }
+
+    @Test
+    public void takeOrNull_indexedAndFrozen()
+    {
+        IndexedPortalContext indexed = new IndexedPortalContext();
+        indexed.place(Integer.class, 42);
+
+        assertThat(indexed.takeOrNull(Integer.class)).isEqualTo(42);
+        assertThat(indexed.takeOrNull(String.class)).isNull();
+
+        FrozenPortalContext frozen = this.context.freeze();
+        assertThat(frozen.takeOrNull(Integer.class)).isEqualTo(42);
+        assertThat(frozen.takeOrNull(String.class)).isNull();
+    }
+
+    @Test
+    public void find()
+    {
+        assertThat(this.context.find(Integer.class)).isEqualTo(Optional.of(42));
+        assertThat(this.context.find(String.class)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void find_resolvesSupplier()
+    {
+        java.util.function.Supplier<String> name = () -> "name";
+        this.context.place(String.class, name);
+
+        assertThat(this.context.find(String.class)).isEqualTo(Optional.of("name"));
+    }
+
+    @Test
+    public void optionalField_skippedWhenUnbound()
+    {
+        Target target = this.context.newInstance(Target.class);
+
+        assertThat(target.answer).isEqualTo(42);
+        assertThat(target.name).isEqualTo("default");
+    }
+
+    @Test
+    public void optionalField_injectedWhenBound()
+    {
+        this.context.place(String.class, "name");
+
+        assertThat(this.context.newInstance(Target.class).name).isEqualTo("name");
+    }
+
+    @Test
+    public void optionalField_compiled()
+    {
+        this.context.enableCompiledInjectors(true);
+
+        assertThat(this.context.newInstance(Target.class).name).isEqualTo("default");
+
+        this.context.place(String.class, "name");
+        assertThat(this.context.newInstance(Target.class).name).isEqualTo("name");
+    }
+
+    @Test
+    public void optionalField_batch()
+    {
+        List<Target> targets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) targets.add(new Target());
+
+        this.context.autoInjectAll(targets);
+
+        for (Target target : targets)
+        {
+            assertThat(target.answer).isEqualTo(42);
+            assertThat(target.name).isEqualTo("default");
+        }
+    }
+
+    @Test
+    public void optionalField_pooled()
+    {
+        Target target = this.context.newPooledInstance(Target.class);
+        target.name = "changed";
+        this.context.release(target);
+
+        assertThat(this.context.newPooledInstance(Target.class).name).isEqualTo("changed");
+    }
+
+    @Test
+    public void requiredField_stillFails()
+    {
+        assertThatExceptionOfType(NoRegisteredInstanceError.class)
+                .isThrownBy(() -> new SimplePortalContext().autoInject(new Target()));
+    }
+
+    @Test
+    public void errors_lazyMessages()
+    {
+        NoRegisteredInstanceError missing = new NoRegisteredInstanceError(String.class);
+        assertThat(missing.getQueryClass()).isEqualTo(String.class);
+        assertThat(missing.getMessage()).isEqualTo("No registered instance found for class: java.lang.String");
+
+        FrozenContextError frozen = new FrozenContextError(String.class);
+        assertThat(frozen.getInstanceClass()).isEqualTo(String.class);
+        assertThat(frozen.getMessage()).contains("java.lang.String");
+
+        PortalContextToken token = new SimpleContextToken("missing");
+        UnrecognizedTokenException unrecognized = new UnrecognizedTokenException(token);
+        assertThat(unrecognized.getToken()).isSameAs(token);
+        assertThat(unrecognized.getMessage()).contains(token.getTokenKey());
+    }
+
+    @Test
+    public void errors_tokenSurvivesSerialization() throws Exception
+    {
+        UnrecognizedTokenException unrecognized = new UnrecognizedTokenException(new SimpleContextToken("missing"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+        {
+            out.writeObject(unrecognized);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            UnrecognizedTokenException copy = (UnrecognizedTokenException)in.readObject();
+
+            assertThat(copy.getToken()).isNull();
+            assertThat(copy.getMessage()).isEqualTo(unrecognized.getMessage());
+        }
+    }
+
+    @Test
+    public void errors_stackTracesByDefault()
+    {
+        assertThat(ErrorStackTraces.isEnabled()).isTrue();
+        assertThat(new NoRegisteredInstanceError(String.class).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void errors_stackless()
+    {
+        ErrorStackTraces.enable(false);
+
+        assertThat(new NoRegisteredInstanceError(String.class).getStackTrace()).isEmpty();
+        assertThat(new FrozenContextError(String.class).getStackTrace()).isEmpty();
+        assertThat(new UnrecognizedTokenException(new SimpleContextToken("missing")).getStackTrace()).isEmpty();
+    }
+
+    /** A recyclable class with a required and an optional field. */
+    public static class Target implements Recyclable
+    {
+        @Inject
+        private Integer answer;
+        @Inject
+        @OptionalInject
+        private String name = "default";
+
+        @Override
+        public void reset()
+        {
+            // Nothing to clear.
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for pooled instances created with {@link PortalContext#newPooledInstance(Class)}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class PooledInstanceTests
+{
+    protected SimplePortalContext context;
+
+    @Before
+    public void setup()
+    {
+        this.context = new SimplePortalContext();
+        this.context.place(String.class, "name");
+        this.context.place(Integer.class, 42);
+    }
+
+    @Test
+    public void newPooled_createsWhenEmpty()
+    {
+        Request request = this.context.newPooledInstance(Request.class);
+
+        assertThat(request.name).isEqualTo("name");
+        assertThat(request.answer).isEqualTo(42);
+    }
+
+    @Test
+    public void release_reused()
+    {
+        Request first = this.context.newPooledInstance(Request.class);
+        this.context.release(first);
+
+        assertThat(this.context.newPooledInstance(Request.class)).isSameAs(first);
+        assertThat(this.context.newPooledInstance(Request.class)).isNotSameAs(first);
+    }
+
+    @Test
+    public void release_resets()
+    {
+        Request request = this.context.newPooledInstance(Request.class);
+        request.body = "payload";
+
+        this.context.release(request);
+
+        assertThat(request.body).isNull();
+        assertThat(request.resets).isEqualTo(1);
+    }
+
+    @Test
+    public void reuse_refreshesChangedBindings()
+    {
+        Request request = this.context.newPooledInstance(Request.class);
+        String originalName = request.name;
+        this.context.release(request);
+
+        this.context.place(Integer.class, 99);
+
+        Request reused = this.context.newPooledInstance(Request.class);
+        assertThat(reused).isSameAs(request);
+        assertThat(reused.answer).isEqualTo(99);
+        assertThat(reused.name).isSameAs(originalName);
+    }
+
+    @Test
+    public void reuse_refreshesChangedBeforeRelease()
+    {
+        Request request = this.context.newPooledInstance(Request.class);
+        this.context.place(Integer.class, 99);
+        this.context.release(request);
+
+        assertThat(this.context.newPooledInstance(Request.class).answer).isEqualTo(99);
+    }
+
+    @Test
+    public void reuse_reinjectsClearedFields()
+    {
+        Request request = this.context.newPooledInstance(Request.class);
+        this.context.release(request);
+        request.name = null;
+
+        Request reused = this.context.newPooledInstance(Request.class);
+        assertThat(reused).isSameAs(request);
+        assertThat(reused.name).isEqualTo("name");
+    }
+
+    @Test
+    public void release_rejectsNonRecyclable()
+    {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> this.context.release("name"));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> this.context.release(null));
+    }
+
+    @Test
+    public void release_rejectsDoubleRelease()
+    {
+        Request request = this.context.newPooledInstance(Request.class);
+        this.context.release(request);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> this.context.release(request));
+        assertThat(this.context.newPooledInstance(Request.class)).isSameAs(request);
+        assertThat(this.context.newPooledInstance(Request.class)).isNotSameAs(request);
+    }
+
+    @Test
+    public void pool_bounded()
+    {
+        List<Request> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) requests.add(this.context.newPooledInstance(Request.class));
+        for (Request request : requests) this.context.release(request);
+
+        int reused = 0;
+        for (int i = 0; i < 100; i++) if (requests.contains(this.context.newPooledInstance(Request.class))) reused++;
+
+        assertThat(reused).isGreaterThan(0).isLessThan(100);
+    }
+
+    @Test
+    public void pool_concurrent() throws Exception
+    {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++)
+            {
+                results.add(pool.submit(() -> {
+                    for (int i = 0; i < 10000; i++)
+                    {
+                        Request request = this.context.newPooledInstance(Request.class);
+                        if (request.body != null || request.answer != 42) return false;
+                        request.body = "busy";
+                        this.context.release(request);
+                    }
+                    return true;
+                }));
+            }
+
+            for (Future<Boolean> result : results) assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    /** A recyclable request-scoped class. */
+    public static class Request implements Recyclable
+    {
+        @Inject
+        private String name;
+        @Inject
+        private Integer answer;
+
+        private String body;
+        private int resets;
+
+        @Override
+        public void reset()
+        {
+            this.body = null;
+            this.resets++;
+        }
+    }
+}
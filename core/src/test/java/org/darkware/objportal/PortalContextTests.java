@@ -27,7 +27,17 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses(
         {
-            SimplePortalContextTests.class
+            SimplePortalContextTests.class,
+            CompiledInjectorTests.class,
+            IndexedPortalContextTests.class,
+            FrozenPortalContextTests.class,
+            HierarchicalContextTests.class,
+            ContextTemplateTests.class,
+            BulkInjectionTests.class,
+            PooledInstanceTests.class,
+            LazyInjectionTests.class,
+            OptionalLookupTests.class,
+            AsyncBindingTests.class
         })
 public class PortalContextTests
 {
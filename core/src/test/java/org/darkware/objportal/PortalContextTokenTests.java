@@ -82,4 +82,74 @@ public class PortalContextTokenTests
 
         assertThat(a.getTokenKey()).isEqualTo(a.toString());
     }
+
+    @Test
+    public void numeric_equalById()
+    {
+        NumericContextToken a = new NumericContextToken(7L);
+        NumericContextToken b = new NumericContextToken(7L);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        assertThat(a).isEqualByComparingTo(b);
+    }
+
+    @Test
+    public void numeric_notEqual()
+    {
+        NumericContextToken a = new NumericContextToken();
+        NumericContextToken b = new NumericContextToken();
+
+        assertThat(a).isNotEqualTo(b);
+        assertThat(a.compareTo(b)).isLessThan(0);
+    }
+
+    @Test
+    public void numeric_distinctFromKeyedTokens()
+    {
+        NumericContextToken a = new NumericContextToken(7L);
+        SimpleContextToken b = new SimpleContextToken("7");
+
+        assertThat(a).isNotEqualTo(b);
+        assertThat(b).isNotEqualTo(a);
+        assertThat(a.getTokenKey()).isNotEqualTo(b.getTokenKey());
+    }
+
+    @Test
+    public void numeric_neverEqualToKeyedTokens()
+    {
+        NumericContextToken a = new NumericContextToken(7L);
+        DefaultContextToken b = new DefaultContextToken()
+        {
+            @Override
+            protected String generateKey()
+            {
+                return "#7";
+            }
+        };
+
+        assertThat(a.getTokenKey()).isEqualTo(b.getTokenKey());
+        assertThat(a).isNotEqualTo(b);
+        assertThat(b).isNotEqualTo(a);
+    }
+
+    @Test
+    public void numeric_orderedAheadOfKeyedTokens()
+    {
+        NumericContextToken nine = new NumericContextToken(9L);
+        NumericContextToken ten = new NumericContextToken(10L);
+        SimpleContextToken keyed = new SimpleContextToken("5");
+
+        assertThat(nine.compareTo(ten)).isLessThan(0);
+        assertThat(ten.compareTo(keyed)).isLessThan(0);
+        assertThat(nine.compareTo(keyed)).isLessThan(0);
+        assertThat(keyed.compareTo(nine)).isGreaterThan(0);
+        assertThat(keyed.compareTo(ten)).isGreaterThan(0);
+    }
+
+    @Test
+    public void numeric_idsSeededFromClock()
+    {
+        assertThat(new NumericContextToken().getId()).isGreaterThan(1_000_000_000_000L);
+    }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the Java Flight Recorder events emitted by contexts and providers.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class PortalEventTests
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recorder_usesFlightRecorder()
+    {
+        assertThat(PortalEvents.recorder).isInstanceOf(FlightRecorderEvents.class);
+    }
+
+    @Test
+    public void recorder_fallsBackWithoutFlightRecorder() throws Exception
+    {
+        URL classes = PortalEvents.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new NoFlightRecorderLoader(classes, this.getClass().getClassLoader()))
+        {
+            Class<?> events = loader.loadClass(PortalEvents.class.getName());
+            Field recorder = events.getDeclaredField("recorder");
+            recorder.setAccessible(true);
+            assertThat(recorder.get(null).getClass().getName()).isEqualTo(PortalEvents.class.getName() + "$Disabled");
+
+            Object context = loader.loadClass(SimplePortalContext.class.getName()).newInstance();
+            Object created = context.getClass().getMethod("newInstance", Class.class).invoke(context, Object.class);
+            assertThat(created).isNotNull();
+        }
+    }
+
+    @Test
+    public void disabledByDefault() throws IOException
+    {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording())
+        {
+            recording.start();
+            this.exercise(new SimplePortalProvider());
+            recording.stop();
+
+            events = this.read(recording, "org.darkware.objportal.");
+        }
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void contextEvents() throws IOException
+    {
+        SimplePortalProvider provider = new SimplePortalProvider();
+        PortalContextToken token;
+
+        List<RecordedEvent> events;
+        try (Recording recording = this.enabledRecording())
+        {
+            recording.start();
+            token = this.exercise(provider);
+            recording.stop();
+
+            events = this.read(recording, "org.darkware.objportal.");
+        }
+
+        RecordedEvent created = this.single(events, "org.darkware.objportal.ContextCreation");
+        assertThat(this.targetClass(created)).isEqualTo(SimplePortalContext.class.getName());
+        assertThat(created.getString("contextToken")).isEqualTo(token.getTokenKey());
+
+        RecordedEvent supplier = this.single(events, "org.darkware.objportal.SupplierResolution");
+        assertThat(this.targetClass(supplier)).isEqualTo(Integer.class.getName());
+        assertThat(supplier.getString("contextToken")).isEqualTo(token.getTokenKey());
+
+        RecordedEvent injected = this.single(events, "org.darkware.objportal.Injection");
+        assertThat(this.targetClass(injected)).isEqualTo(Target.class.getName());
+        assertThat(injected.getInt("fieldCount")).isEqualTo(1);
+
+        RecordedEvent created2 = this.single(events, "org.darkware.objportal.NewInstance");
+        assertThat(this.targetClass(created2)).isEqualTo(Target.class.getName());
+        assertThat(created2.getDuration()).isNotNull();
+    }
+
+    @Test
+    public void injectionEvents_batchAndGenerated() throws IOException
+    {
+        SimplePortalProvider provider = new SimplePortalProvider();
+        PortalContextToken token = provider.requestNewContext();
+        PortalContext context = provider.getPortalContext(token);
+        context.place(Integer.class, 42);
+
+        List<RecordedEvent> events;
+        try (Recording recording = this.enabledRecording())
+        {
+            recording.start();
+            context.autoInjectAll(new Object[] {new Target(), new Target()});
+            context.autoInject(new GeneratedInjectorTests.IndexedClass());
+            recording.stop();
+
+            events = this.read(recording, "org.darkware.objportal.Injection");
+        }
+
+        assertThat(events).hasSize(3);
+        for (RecordedEvent event : events)
+        {
+            assertThat(event.getInt("fieldCount")).isEqualTo(1);
+            assertThat(event.getString("contextToken")).isEqualTo(token.getTokenKey());
+        }
+        assertThat(events.stream().map(this::targetClass).collect(Collectors.toList()))
+            .containsOnly(Target.class.getName(), GeneratedInjectorTests.IndexedClass.class.getName());
+    }
+
+    @Test
+    public void bindingWait() throws Exception
+    {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Supplier<Integer> slow = () -> {
+            entered.countDown();
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return 42;
+        };
+
+        SimplePortalContext context = new SimplePortalContext();
+        context.place(Integer.class, slow);
+
+        List<RecordedEvent> events;
+        try (Recording recording = this.enabledRecording())
+        {
+            recording.start();
+
+            Thread first = new Thread(() -> context.take(Integer.class));
+            first.start();
+            entered.await();
+
+            Thread second = new Thread(() -> context.take(Integer.class));
+            second.start();
+            while (second.getState() != Thread.State.BLOCKED) Thread.sleep(5);
+
+            release.countDown();
+            first.join();
+            second.join();
+
+            recording.stop();
+            events = this.read(recording, "org.darkware.objportal.BindingWait");
+        }
+
+        assertThat(events).hasSize(1);
+        assertThat(this.targetClass(events.get(0))).isEqualTo(Integer.class.getName());
+    }
+
+    /**
+     * Run a set of operations which emit one of each context and provider event.
+     *
+     * @param provider The provider to run the operations against.
+     * @return The token of the context which was created.
+     */
+    private PortalContextToken exercise(final SimplePortalProvider provider)
+    {
+        PortalContextToken token = provider.requestNewContext();
+        PortalContext context = provider.getPortalContext(token);
+
+        Supplier<Integer> answer = () -> 42;
+        context.place(Integer.class, answer);
+        context.take(Integer.class);
+        context.autoInject(new Target());
+        context.newInstance(Target.class);
+
+        return token;
+    }
+
+    /**
+     * Create a recording with every ObjectPortal event enabled and no duration threshold.
+     *
+     * @return A new, unstarted {@link Recording}.
+     */
+    private Recording enabledRecording()
+    {
+        Recording recording = new Recording();
+        for (String name : new String[]{"NewInstance", "Injection", "SupplierResolution", "ContextCreation", "BindingWait"})
+        {
+            recording.enable("org.darkware.objportal." + name).withoutThreshold();
+        }
+
+        return recording;
+    }
+
+    /**
+     * Dump a stopped recording and read back the events whose names start with the given prefix.
+     *
+     * @param recording The stopped {@link Recording}.
+     * @param prefix The prefix of the event names to keep.
+     * @return The matching events.
+     */
+    private List<RecordedEvent> read(final Recording recording, final String prefix) throws IOException
+    {
+        Path file = this.folder.newFile().toPath();
+        recording.dump(file);
+
+        return RecordingFile.readAllEvents(file).stream()
+                            .filter(e -> e.getEventType().getName().startsWith(prefix))
+                            .collect(Collectors.toList());
+    }
+
+    /**
+     * Find the single event with the given name.
+     *
+     * @param events The events to search.
+     * @param name The name of the event.
+     * @return The matching event.
+     */
+    private RecordedEvent single(final List<RecordedEvent> events, final String name)
+    {
+        List<RecordedEvent> matches = events.stream()
+                                            .filter(e -> e.getEventType().getName().equals(name))
+                                            .collect(Collectors.toList());
+        assertThat(matches).hasSize(1);
+
+        return matches.get(0);
+    }
+
+    /**
+     * Fetch the name of an event's target class.
+     *
+     * @param event The event to read.
+     * @return The name of the recorded target class.
+     */
+    private String targetClass(final RecordedEvent event)
+    {
+        return event.<RecordedClass>getValue("targetClass").getName();
+    }
+
+    /**
+     * A class loader which loads the library's classes itself and refuses to find any {@code jdk.jfr} class, as on a
+     * runtime without Flight Recorder.
+     */
+    private static final class NoFlightRecorderLoader extends URLClassLoader
+    {
+        private NoFlightRecorderLoader(final URL classes, final ClassLoader parent)
+        {
+            super(new URL[]{classes}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException
+        {
+            if (name.startsWith("jdk.jfr.")) throw new ClassNotFoundException(name);
+            if (!name.startsWith(PortalEvents.class.getPackage().getName() + ".")) return super.loadClass(name, resolve);
+
+            synchronized (this.getClassLoadingLock(name))
+            {
+                Class<?> loaded = this.findLoadedClass(name);
+                if (loaded == null) loaded = this.findClass(name);
+                if (resolve) this.resolveClass(loaded);
+
+                return loaded;
+            }
+        }
+    }
+
+    /** A class with one injected field. */
+    public static class Target
+    {
+        @Inject
+        private Integer answer;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link PortalHandle} returned by {@link ObjectPortal#bind(PortalContextToken)} and
+ * {@link ObjectPortal#current()}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class PortalHandleTests
+{
+    protected SimplePortalProvider provider;
+
+    @Before
+    public void init()
+    {
+        this.provider = new SimplePortalProvider();
+        this.provider.getPortalContext().place(Integer.class, 42);
+        ObjectPortal.useProvider(this.provider);
+    }
+
+    @Test
+    public void current_usesDefaultContext()
+    {
+        PortalHandle handle = ObjectPortal.current();
+
+        assertThat(handle.getContext()).isSameAs(this.provider.getPortalContext());
+        assertThat(handle.getToken()).isEqualTo(this.provider.getDefaultToken());
+        assertThat(handle.take(Integer.class)).isEqualTo(42);
+        assertThat(handle.newInstance(SimpleTestClass.class).getAnswer()).isEqualTo(42);
+    }
+
+    @Test
+    public void current_keepsContextAfterDefaultChange()
+    {
+        PortalHandle handle = ObjectPortal.current();
+        PortalContext original = handle.getContext();
+
+        ObjectPortal.useDefaultToken(ObjectPortal.requestNewContext());
+
+        assertThat(handle.getContext()).isSameAs(original);
+    }
+
+    @Test
+    public void bind_usesTokenContext()
+    {
+        PortalContextToken token = ObjectPortal.requestNewContext();
+        PortalHandle handle = ObjectPortal.bind(token);
+
+        handle.place(Integer.class, 99);
+        Supplier<String> name = () -> "bound";
+        handle.place(String.class, name);
+
+        assertThat(handle.getToken()).isEqualTo(token);
+        assertThat(ObjectPortal.take(token, Integer.class)).isEqualTo(99);
+        assertThat(handle.hasInstance(String.class)).isTrue();
+        assertThat(handle.take(String.class)).isEqualTo("bound");
+        assertThat(ObjectPortal.take(Integer.class)).isEqualTo(42);
+    }
+
+    @Test
+    public void autoInject_usesBoundContext()
+    {
+        SimpleTestClass test = new SimpleTestClass();
+
+        ObjectPortal.current().autoInject(test);
+
+        assertThat(test.getAnswer()).isEqualTo(42);
+    }
+
+    @Test
+    public void facadeOperations_usesBoundContext() throws Exception
+    {
+        PortalContextToken token = ObjectPortal.requestNewContext();
+        PortalHandle handle = ObjectPortal.bind(token);
+        handle.place(Integer.class, 7);
+
+        assertThat(handle.takeOrNull(Integer.class)).isEqualTo(7);
+        assertThat(handle.takeOrNull(String.class)).isNull();
+        assertThat(handle.takeAsync(Integer.class).get()).isEqualTo(7);
+
+        handle.placeAsync(String.class, () -> "async", Runnable::run);
+        assertThat(handle.take(String.class, Duration.ofSeconds(1))).isEqualTo("async");
+
+        SimpleTestClass first = new SimpleTestClass();
+        SimpleTestClass second = new SimpleTestClass();
+        handle.autoInjectAll(Arrays.asList(first, second));
+
+        assertThat(first.getAnswer()).isEqualTo(7);
+        assertThat(second.getAnswer()).isEqualTo(7);
+        assertThat(ObjectPortal.take(Integer.class)).isEqualTo(42);
+    }
+
+    @Test
+    public void useProvider_invalidatesHandle()
+    {
+        PortalHandle handle = ObjectPortal.current();
+        assertThat(handle.take(Integer.class)).isEqualTo(42);
+
+        SimplePortalProvider replacement = new SimplePortalProvider();
+        replacement.getPortalContext(handle.getToken()).place(Integer.class, 7);
+        ObjectPortal.useProvider(replacement);
+
+        assertThat(handle.getContext()).isSameAs(replacement.getPortalContext(handle.getToken()));
+        assertThat(handle.take(Integer.class)).isEqualTo(7);
+    }
+
+    @Test
+    public void current_keepsTokenAcrossThreads() throws InterruptedException
+    {
+        ThreadLocalPortalProvider threadProvider = new ThreadLocalPortalProvider();
+        ObjectPortal.useProvider(threadProvider);
+        PortalHandle handle = ObjectPortal.current();
+        threadProvider.getPortalContext().place(Integer.class, 42);
+
+        ObjectPortal.useProvider(new ThreadLocalPortalProvider());
+        ObjectPortal.useProvider(threadProvider);
+
+        AtomicReference<Integer> seen = new AtomicReference<>();
+        Thread reader = new Thread(() -> seen.set(handle.take(Integer.class)));
+        reader.start();
+        reader.join();
+
+        assertThat(seen.get()).isEqualTo(42);
+        assertThat(handle.getToken()).isEqualTo(threadProvider.getDefaultToken());
+    }
+
+    @Test
+    public void useProvider_visibleToOtherThreads() throws InterruptedException
+    {
+        SimplePortalProvider replacement = new SimplePortalProvider();
+        ObjectPortal.useProvider(replacement);
+
+        AtomicReference<PortalProvider> seen = new AtomicReference<>();
+        Thread reader = new Thread(() -> seen.set(ObjectPortal.currentProvider()));
+        reader.start();
+        reader.join();
+
+        assertThat(seen.get()).isSameAs(replacement);
+        assertThat(ObjectPortal.currentProvider()).isSameAs(replacement);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.NoRegisteredInstanceError;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link PortalMetrics} reporting and the {@link SimplePortalMetrics} listener.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class PortalMetricsTests
+{
+    protected SimplePortalMetrics metrics;
+    protected SimplePortalContext context;
+
+    @Before
+    public void setup()
+    {
+        this.metrics = new SimplePortalMetrics();
+        this.context = new SimplePortalContext();
+        this.context.useMetrics(this.metrics);
+    }
+
+    @Test
+    public void defaultListener()
+    {
+        assertThat(new SimplePortalContext().getMetrics()).isSameAs(NoPortalMetrics.INSTANCE);
+    }
+
+    @Test
+    public void useMetrics_rejectsNull()
+    {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> this.context.useMetrics(null));
+    }
+
+    @Test
+    public void take_hitsAndMisses()
+    {
+        this.context.place(Integer.class, 42);
+
+        this.context.take(Integer.class);
+        this.context.take(Integer.class);
+        assertThatExceptionOfType(NoRegisteredInstanceError.class).isThrownBy(() -> this.context.take(String.class));
+
+        assertThat(this.metrics.getTakeHits()).isEqualTo(2);
+        assertThat(this.metrics.getTakeMisses()).isEqualTo(1);
+        assertThat(this.metrics.getSupplierResolutions()).isEqualTo(0);
+    }
+
+    @Test
+    public void take_supplierResolved()
+    {
+        Supplier<Integer> slow = () -> {
+            try
+            {
+                Thread.sleep(5);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return 42;
+        };
+        this.context.place(Integer.class, slow);
+
+        this.context.take(Integer.class);
+        this.context.take(Integer.class);
+
+        assertThat(this.metrics.getSupplierResolutions()).isEqualTo(1);
+        assertThat(this.metrics.getTakeHits()).isEqualTo(1);
+        assertThat(this.metrics.getSupplierLatency().getTotalNanos()).isGreaterThanOrEqualTo(5_000_000L);
+    }
+
+    @Test
+    public void take_frozenAndIndexed()
+    {
+        IndexedPortalContext indexed = new IndexedPortalContext();
+        indexed.useMetrics(this.metrics);
+        indexed.place(Integer.class, 42);
+        indexed.take(Integer.class);
+
+        this.context.place(Integer.class, 42);
+        FrozenPortalContext frozen = this.context.freeze();
+        frozen.take(Integer.class);
+        assertThatExceptionOfType(NoRegisteredInstanceError.class).isThrownBy(() -> frozen.take(String.class));
+
+        assertThat(this.metrics.getTakeHits()).isEqualTo(2);
+        assertThat(this.metrics.getTakeMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void autoInject_fieldsCounted()
+    {
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "name");
+
+        this.context.autoInject(new Target());
+        this.context.autoInject(new Target());
+
+        assertThat(this.metrics.getInjections()).isEqualTo(2);
+        assertThat(this.metrics.getInjectedFields()).isEqualTo(4);
+        assertThat(this.metrics.getTakeHits()).isEqualTo(4);
+    }
+
+    @Test
+    public void autoInject_generatedFieldsCounted()
+    {
+        this.context.place(Integer.class, 42);
+
+        this.context.autoInject(new GeneratedInjectorTests.IndexedClass());
+
+        assertThat(this.metrics.getInjections()).isEqualTo(1);
+        assertThat(this.metrics.getInjectedFields()).isEqualTo(1);
+    }
+
+    @Test
+    public void autoInjectAll_eachObjectReported()
+    {
+        this.context.place(Integer.class, 42);
+        this.context.place(String.class, "name");
+
+        this.context.autoInjectAll(new Object[] {new Target(), new Target(), new GeneratedInjectorTests.IndexedClass()});
+        this.context.autoInjectAll(Arrays.asList(new Target(), new Target()));
+        this.context.autoInjectAll(new Object[] {new Target()}, ForkJoinPool.commonPool());
+
+        assertThat(this.metrics.getInjections()).isEqualTo(6);
+        assertThat(this.metrics.getInjectedFields()).isEqualTo(11);
+    }
+
+    @Test
+    public void provider_contextsReported()
+    {
+        SimplePortalProvider provider = new SimplePortalProvider();
+        provider.useMetrics(this.metrics);
+
+        PortalContext context = provider.getPortalContext(provider.requestNewContext());
+        provider.getPortalContext(provider.requestNewContext());
+
+        assertThat(this.metrics.getContextsCreated()).isEqualTo(2);
+        assertThat(this.metrics.getContextCount()).isEqualTo(2);
+        assertThat(((AbstractPortalContext)context).getMetrics()).isSameAs(this.metrics);
+    }
+
+    @Test
+    public void provider_releaseReported()
+    {
+        SimplePortalProvider provider = new SimplePortalProvider();
+        provider.useMetrics(this.metrics);
+
+        PortalContextToken token = provider.requestNewContext();
+        provider.getPortalContext(token);
+        provider.getPortalContext(provider.requestNewContext());
+
+        assertThat(provider.releaseContext(token)).isTrue();
+        assertThat(provider.releaseContext(token)).isFalse();
+
+        assertThat(this.metrics.getContextsReleased()).isEqualTo(1);
+        assertThat(this.metrics.getContextCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void provider_reclaimReported() throws InterruptedException
+    {
+        ThreadLocalPortalProvider provider = new ThreadLocalPortalProvider();
+        provider.useMetrics(this.metrics);
+
+        for (int i = 0; i < 3; i++)
+        {
+            Thread worker = new Thread(() -> provider.getPortalContext().place(Integer.class, 42));
+            worker.start();
+            worker.join();
+        }
+
+        TokenizedProviderTests.awaitReclaimed(provider, 3);
+
+        assertThat(this.metrics.getContextsCreated()).isEqualTo(3);
+        assertThat(this.metrics.getContextsReclaimed()).isEqualTo(3);
+        assertThat(this.metrics.getContextCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void histogram_buckets()
+    {
+        assertThat(LatencyHistogram.bucketOf(0L)).isEqualTo(0);
+        assertThat(LatencyHistogram.bucketOf(1L)).isEqualTo(1);
+        assertThat(LatencyHistogram.bucketOf(1023L)).isEqualTo(10);
+        assertThat(LatencyHistogram.bucketOf(1024L)).isEqualTo(11);
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+
+        assertThat(LatencyHistogram.getUpperBound(10)).isEqualTo(1023L);
+        assertThat(LatencyHistogram.getUpperBound(LatencyHistogram.BUCKETS - 1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void histogram_percentiles()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getPercentile(50.0)).isEqualTo(0L);
+
+        for (int i = 0; i < 90; i++) histogram.record(100L);
+        for (int i = 0; i < 10; i++) histogram.record(5000L);
+        histogram.record(-1L);
+
+        assertThat(histogram.getCount()).isEqualTo(101);
+        assertThat(histogram.getCount(0)).isEqualTo(1);
+        assertThat(histogram.getPercentile(50.0)).isEqualTo(127L);
+        assertThat(histogram.getPercentile(99.0)).isEqualTo(8191L);
+        assertThat(histogram.getTotalNanos()).isEqualTo(90 * 100L + 10 * 5000L);
+    }
+
+    /** A class with two injected fields. */
+    public static class Target
+    {
+        @Inject
+        private Integer answer;
+        @Inject
+        private String name;
+    }
+}
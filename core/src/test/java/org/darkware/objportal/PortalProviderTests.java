@@ -31,7 +31,9 @@ import org.junit.runners.Suite;
         {
                 ThreadLocalProviderTests.class,
                 SingletonProviderTests.class,
-                SimpleProviderTests.class
+                SimpleProviderTests.class,
+                TokenizedProviderTests.class,
+                ScopedProviderTests.class
         })
 public class PortalProviderTests
 {
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link ScopedPortalProvider}.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class ScopedProviderTests
+{
+    protected ScopedPortalProvider provider;
+
+    @Before
+    public void init()
+    {
+        this.provider = new ScopedPortalProvider();
+        ObjectPortal.useProvider(this.provider);
+    }
+
+    @Test
+    public void root_sharedAcrossThreads() throws InterruptedException
+    {
+        ObjectPortal.place(Integer.class, 42);
+
+        AtomicReference<Integer> answer = new AtomicReference<>();
+        Thread worker = new Thread(() -> answer.set(ObjectPortal.take(Integer.class)));
+        worker.start();
+        worker.join();
+
+        assertThat(answer.get()).isEqualTo(42);
+    }
+
+    @Test
+    public void runIn_scoped()
+    {
+        ObjectPortal.place(Integer.class, 42);
+        PortalContextToken root = ObjectPortal.getDefaultContextToken();
+        PortalContextToken token = ObjectPortal.requestNewContext();
+
+        ObjectPortal.runIn(token, () -> {
+            assertThat(ObjectPortal.getDefaultContextToken()).isEqualTo(token);
+            ObjectPortal.place(Integer.class, 99);
+            assertThat(ObjectPortal.take(Integer.class)).isEqualTo(99);
+        });
+
+        assertThat(ObjectPortal.getDefaultContextToken()).isEqualTo(root);
+        assertThat(ObjectPortal.take(Integer.class)).isEqualTo(42);
+        assertThat(ObjectPortal.take(token, Integer.class)).isEqualTo(99);
+    }
+
+    @Test
+    public void callIn_nestedRestores() throws Exception
+    {
+        PortalContextToken outer = ObjectPortal.requestNewContext();
+        PortalContextToken inner = ObjectPortal.requestNewContext();
+
+        PortalContextToken seen = ObjectPortal.callIn(outer, () -> {
+            ObjectPortal.runIn(inner, () -> assertThat(ObjectPortal.getDefaultContextToken()).isEqualTo(inner));
+            return ObjectPortal.getDefaultContextToken();
+        });
+
+        assertThat(seen).isEqualTo(outer);
+    }
+
+    @Test
+    public void runIn_restoresAfterFailure()
+    {
+        PortalContextToken root = ObjectPortal.getDefaultContextToken();
+        PortalContextToken token = ObjectPortal.requestNewContext();
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> ObjectPortal.runIn(token, () -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        assertThat(ObjectPortal.getDefaultContextToken()).isEqualTo(root);
+    }
+
+    @Test
+    public void runIn_refusedForGlobalDefaults()
+    {
+        SimplePortalProvider simple = new SimplePortalProvider();
+        PortalContextToken original = simple.getDefaultToken();
+        PortalContextToken token = simple.requestNewContext();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> simple.runIn(token, () -> {}));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> simple.callIn(token, () -> 1));
+        assertThat(simple.getDefaultToken()).isEqualTo(original);
+    }
+
+    @Test
+    public void scope_notInheritedByThreads() throws Exception
+    {
+        PortalContextToken root = ObjectPortal.getDefaultContextToken();
+        PortalContextToken token = ObjectPortal.requestNewContext();
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try
+        {
+            PortalContextToken seen = ObjectPortal.callIn(token, () -> pool.submit(ObjectPortal::getDefaultContextToken).get(5, TimeUnit.SECONDS));
+
+            assertThat(seen).isEqualTo(root);
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void inCurrentScope_carriedToOtherThreads() throws Exception
+    {
+        PortalContextToken token = ObjectPortal.requestNewContext();
+        ObjectPortal.place(token, Integer.class, 99);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try
+        {
+            Future<Integer> answer = ObjectPortal.callIn(token, () -> pool.submit(this.provider.inCurrentScope(() -> ObjectPortal.take(Integer.class))));
+
+            assertThat(answer.get(5, TimeUnit.SECONDS)).isEqualTo(99);
+            assertThat(pool.submit(ObjectPortal::getDefaultContextToken).get(5, TimeUnit.SECONDS)).isNotEqualTo(token);
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void useDefaultToken_insideScope()
+    {
+        PortalContextToken root = ObjectPortal.getDefaultContextToken();
+        PortalContextToken outer = ObjectPortal.requestNewContext();
+        PortalContextToken replacement = ObjectPortal.requestNewContext();
+
+        ObjectPortal.runIn(outer, () -> {
+            ObjectPortal.useDefaultToken(replacement);
+            assertThat(ObjectPortal.getDefaultContextToken()).isEqualTo(replacement);
+        });
+
+        assertThat(ObjectPortal.getDefaultContextToken()).isEqualTo(root);
+    }
+
+    @Test
+    public void useDefaultToken_outsideScope()
+    {
+        PortalContextToken replacement = ObjectPortal.requestNewContext();
+
+        ObjectPortal.useDefaultToken(replacement);
+
+        assertThat(ObjectPortal.getDefaultContextToken()).isEqualTo(replacement);
+        assertThat(this.provider.getPortalContext()).isSameAs(this.provider.getPortalContext(replacement));
+    }
+
+    @Test
+    public void threadLocal_runInRestoresContext()
+    {
+        ThreadLocalPortalProvider threadProvider = new ThreadLocalPortalProvider();
+        PortalContext original = threadProvider.getPortalContext();
+        PortalContextToken token = threadProvider.requestNewContext();
+
+        threadProvider.runIn(token, () -> assertThat(threadProvider.getPortalContext()).isSameAs(threadProvider.getPortalContext(token)));
+
+        assertThat(threadProvider.getPortalContext()).isSameAs(original);
+    }
+}
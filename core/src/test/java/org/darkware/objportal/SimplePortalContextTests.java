@@ -22,6 +22,14 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.junit.Assert.*;
@@ -34,7 +42,7 @@ import static org.junit.Assert.*;
  */
 public class SimplePortalContextTests
 {
-    protected SimplePortalContext context;
+    protected AbstractPortalContext context;
 
     @Before
     public void setup()
@@ -74,6 +82,99 @@ public class SimplePortalContextTests
         assertEquals(new Integer(42), this.context.take(Integer.class));
     }
 
+    @Test
+    public void storeRetrieve_supplierResolvedOnce() throws Exception
+    {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Supplier<Integer> supplier = () -> {
+            calls.incrementAndGet();
+            return 42;
+        };
+        this.context.place(Integer.class, supplier);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+            {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return this.context.take(Integer.class);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) assertEquals(new Integer(42), result.get(5, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void storeRetrieve_slowSupplierIsolated() throws Exception
+    {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        this.context.place(String.class, "quick");
+        Supplier<Integer> supplier = () -> {
+            entered.countDown();
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return 42;
+        };
+        this.context.place(Integer.class, supplier);
+
+        Thread slow = new Thread(() -> this.context.take(Integer.class));
+        slow.start();
+        try
+        {
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // Neither lookups of resolved bindings nor other writes wait on the slow supplier
+            assertEquals("quick", this.context.take(String.class));
+            assertTrue(this.context.hasInstance(Integer.class));
+            this.context.place(Long.class, 42L);
+            assertEquals(new Long(42L), this.context.take(Long.class));
+        }
+        finally
+        {
+            release.countDown();
+            slow.join();
+        }
+
+        assertEquals(new Integer(42), this.context.take(Integer.class));
+    }
+
+    @Test
+    public void storeRetrieve_replaceSupplier()
+    {
+        Supplier<Integer> first = () -> 42;
+        Supplier<Integer> second = () -> 99;
+
+        this.context.place(Integer.class, first);
+        assertEquals(new Integer(42), this.context.take(Integer.class));
+
+        this.context.place(Integer.class, second);
+        assertEquals(new Integer(99), this.context.take(Integer.class));
+
+        this.context.place(Integer.class, 7);
+        assertEquals(new Integer(7), this.context.take(Integer.class));
+    }
+
     @Test
     public void newInstance_normal()
     {
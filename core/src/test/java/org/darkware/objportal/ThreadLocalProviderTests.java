@@ -243,6 +243,77 @@ public class ThreadLocalProviderTests
         assertEquals(42, ObjectPortal.take(Integer.class).intValue());
     }
 
+    @Test
+    public void context_cachedPerThread()
+    {
+        ThreadLocalPortalProvider provider = new ThreadLocalPortalProvider();
+
+        PortalContext first = provider.getPortalContext();
+
+        assertSame(first, provider.getPortalContext());
+        assertSame(first, provider.getPortalContext(provider.getDefaultToken()));
+    }
+
+    @Test
+    public void context_followsDefaultToken()
+    {
+        ThreadLocalPortalProvider provider = new ThreadLocalPortalProvider();
+
+        PortalContext original = provider.getPortalContext();
+        PortalContextToken originalToken = provider.getDefaultToken();
+
+        PortalContextToken token = provider.requestNewContext();
+        provider.useDefaultToken(token);
+
+        PortalContext replacement = provider.getPortalContext();
+        assertNotSame(original, replacement);
+        assertSame(provider.getPortalContext(token), replacement);
+
+        provider.useDefaultToken(originalToken);
+        assertSame(original, provider.getPortalContext());
+    }
+
+    @Test
+    public void reclaim_deadThreads() throws InterruptedException
+    {
+        ThreadLocalPortalProvider provider = new ThreadLocalPortalProvider();
+        provider.getPortalContext();
+
+        for (int i = 0; i < 8; i++)
+        {
+            Thread worker = new Thread(() -> provider.getPortalContext().place(Integer.class, 42));
+            worker.start();
+            worker.join();
+        }
+
+        TokenizedProviderTests.awaitReclaimed(provider, 8);
+
+        assertEquals(1, provider.getLiveContextCount());
+    }
+
+    @Test
+    public void reclaim_inheritedTokenKept() throws InterruptedException
+    {
+        ThreadLocalPortalProvider provider = new ThreadLocalPortalProvider();
+        provider.enableContextInheritance(true);
+        provider.getPortalContext().place(Integer.class, 42);
+
+        Thread worker = new Thread(provider::getPortalContext);
+        worker.start();
+        worker.join();
+        worker = null;
+
+        for (int i = 0; i < 5; i++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(0, provider.getReclaimedContextCount());
+        assertEquals(1, provider.getLiveContextCount());
+        assertEquals(42, provider.getPortalContext().take(Integer.class).intValue());
+    }
+
     @Test(expected = DefaultTokenRefusedException.class)
     public void inject_incompatibleToken()
     {
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal;
+
+import org.darkware.objportal.error.UnrecognizedTokenException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link TokenizedPortalProvider} base class.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class TokenizedProviderTests
+{
+    protected CountingProvider provider;
+
+    @Before
+    public void init()
+    {
+        this.provider = new CountingProvider();
+    }
+
+    @Test
+    public void autoCreate_disabled()
+    {
+        this.provider.enableAutoCreation(false);
+
+        assertThatExceptionOfType(UnrecognizedTokenException.class)
+                .isThrownBy(() -> this.provider.getPortalContext(new SimpleContextToken("missing")));
+        assertThat(this.provider.created.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void autoCreate_reused()
+    {
+        PortalContextToken token = new SimpleContextToken("reused");
+
+        assertThat(this.provider.getPortalContext(token)).isSameAs(this.provider.getPortalContext(token));
+        assertThat(this.provider.getPortalContext(new SimpleContextToken("reused"))).isSameAs(this.provider.getPortalContext(token));
+        assertThat(this.provider.created.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void autoCreate_concurrentSingleCreation() throws Exception
+    {
+        final int threads = 16;
+        final CountDownLatch start = new CountDownLatch(1);
+        final PortalContextToken token = new SimpleContextToken("contended");
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<PortalContext>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++)
+            {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return this.provider.getPortalContext(token);
+                }));
+            }
+            start.countDown();
+
+            PortalContext first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<PortalContext> result : results) assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        assertThat(this.provider.created.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void register_replaces()
+    {
+        PortalContextToken token = new SimpleContextToken("registered");
+        PortalContext context = new SimplePortalContext();
+
+        this.provider.getPortalContext(token);
+        this.provider.registerContext(token, context);
+
+        assertThat(this.provider.getPortalContext(token)).isSameAs(context);
+    }
+
+    @Test
+    public void reclaim_droppedToken() throws InterruptedException
+    {
+        this.provider.reclaimPrefix = "temp-";
+
+        PortalContextToken kept = new SimpleContextToken("kept");
+        this.provider.getPortalContext(kept);
+        this.provider.getPortalContext(new SimpleContextToken("temp-1"));
+        this.provider.getPortalContext(new SimpleContextToken("temp-2"));
+
+        TokenizedProviderTests.awaitReclaimed(this.provider, 2);
+
+        assertThat(this.provider.getLiveContextCount()).isEqualTo(1);
+        assertThat(this.provider.getPortalContext(kept)).isNotNull();
+        assertThat(this.provider.created.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void reclaim_heldTokenKept() throws InterruptedException
+    {
+        this.provider.reclaimPrefix = "temp-";
+
+        PortalContextToken held = new SimpleContextToken("temp-held");
+        PortalContext context = this.provider.getPortalContext(held);
+        this.provider.getPortalContext(new SimpleContextToken("temp-dropped"));
+
+        TokenizedProviderTests.awaitReclaimed(this.provider, 1);
+
+        assertThat(this.provider.getLiveContextCount()).isEqualTo(1);
+        assertThat(this.provider.getPortalContext(new SimpleContextToken("temp-held"))).isSameAs(context);
+    }
+
+    /**
+     * Repeatedly request garbage collection until the provider has reclaimed the expected number of contexts.
+     *
+     * @param provider The provider to watch.
+     * @param expected The number of reclaimed contexts to wait for.
+     * @throws InterruptedException If the wait is interrupted.
+     */
+    static void awaitReclaimed(final TokenizedPortalProvider provider, final long expected) throws InterruptedException
+    {
+        for (int i = 0; i < 100 && provider.getReclaimedContextCount() < expected; i++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(provider.getReclaimedContextCount()).isEqualTo(expected);
+    }
+
+    /** A minimal provider which counts the contexts it creates. */
+    public static class CountingProvider extends TokenizedPortalProvider
+    {
+        private final AtomicInteger created = new AtomicInteger();
+        private final PortalContextToken defaultToken = new SimpleContextToken("default");
+        private String reclaimPrefix;
+
+        /** Create the provider. */
+        public CountingProvider()
+        {
+            super();
+
+            this.enableAutoCreation(true);
+        }
+
+        @Override
+        protected PortalContext createContext(final PortalContextToken token)
+        {
+            this.created.incrementAndGet();
+            return super.createContext(token);
+        }
+
+        @Override
+        protected boolean isReclaimable(final PortalContextToken token)
+        {
+            return this.reclaimPrefix != null && token.getTokenKey().startsWith(SimpleContextToken.PREFIX + this.reclaimPrefix);
+        }
+
+        @Override
+        public PortalContextToken getDefaultToken()
+        {
+            return this.defaultToken;
+        }
+
+        @Override
+        public PortalContextToken requestNewContext()
+        {
+            return this.defaultToken;
+        }
+
+        @Override
+        public void useDefaultToken(final PortalContextToken defaultToken)
+        {
+            // Do nothing.
+        }
+    }
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.inject.Inject;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The {@code InjectorProcessor} generates a reflection-free {@code GeneratedInjector} for every class with
+ * {@link Inject} fields or constructors, along with an {@code InjectorIndex} listing them. The index is registered as
+ * a {@link java.util.ServiceLoader} provider, which ObjectPortal discovers at runtime.
+ * <p>
+ * Generated injectors assign fields directly, so they can only be created for classes where every injected field
+ * is visible from the class's own package and is not {@code final}, and where either the {@link Inject} constructor
+ * or the no-arg constructor is not {@code private}. Other classes are skipped with a note, and are injected
+ * reflectively at runtime as before. A class with more than one {@link Inject} constructor is reported as an error,
+ * since the runtime refuses to instantiate it.
+ * <p>
+ * Fields declared as a {@code Provider} or {@code Supplier} of a concrete type are assigned a
+ * {@code LazyDependency}, matching the lazy injection performed reflectively at runtime. Fields marked with
+ * {@code OptionalInject} are only assigned when the context has an instance for them.
+ * <p>
+ * The name of the generated index can be set with the {@value #INDEX_OPTION} option. By default, the index is
+ * placed in the first (alphabetical) package which received an injector. When another processor generates injectable
+ * classes in a later round, their injectors are listed in an additional index named after the first with a numeric
+ * suffix, so each index is compiled in the round which produced it. All of the indexes are registered together in the
+ * final round.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes("javax.inject.Inject")
+@SupportedOptions(InjectorProcessor.INDEX_OPTION)
+public class InjectorProcessor extends AbstractProcessor
+{
+    /** The processor option which names the generated index class. */
+    public static final String INDEX_OPTION = "objectportal.index";
+
+    /** The suffix appended to the names of generated injector classes. */
+    public static final String INJECTOR_SUFFIX = "_PortalInjector";
+
+    /** The simple name of the generated index class, when no name is configured. */
+    public static final String DEFAULT_INDEX_NAME = "ObjectPortalInjectorIndex";
+
+    private static final String INJECTOR_INTERFACE = "org.darkware.objportal.GeneratedInjector";
+    private static final String INDEX_INTERFACE = "org.darkware.objportal.InjectorIndex";
+    private static final String CONTEXT_INTERFACE = "org.darkware.objportal.PortalContext";
+    private static final String LAZY_HANDLE = "org.darkware.objportal.LazyDependency";
+    private static final String PROVIDER_INTERFACE = "javax.inject.Provider";
+    private static final String SUPPLIER_INTERFACE = "java.util.function.Supplier";
+    private static final String OPTIONAL_ANNOTATION = "org.darkware.objportal.OptionalInject";
+
+    /** Injectors generated since the last index was written, keyed by the binary name of their target class. */
+    private final Map<String, String> injectors = new TreeMap<>();
+    private final Set<String> processed = new LinkedHashSet<>();
+    private final List<Element> roundElements = new ArrayList<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+    private final List<String> indexes = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+    {
+        final TypeElement injectAnnotation = this.processingEnv.getElementUtils().getTypeElement(Inject.class.getName());
+
+        if (injectAnnotation != null)
+        {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(injectAnnotation))
+            {
+                if (element.getKind() != ElementKind.FIELD && element.getKind() != ElementKind.CONSTRUCTOR) continue;
+
+                final TypeElement type = (TypeElement)element.getEnclosingElement();
+                final String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+                if (!this.processed.add(binaryName)) continue;
+
+                this.generateInjector(type, binaryName);
+            }
+        }
+
+        // Each round's injectors get their own index, so no source is generated in the final round.
+        if (!this.injectors.isEmpty() && !roundEnv.processingOver()) this.writeIndex();
+        if (roundEnv.processingOver() && !this.indexes.isEmpty()) this.writeServices();
+
+        return false;
+    }
+
+    /**
+     * Generate an injector for the given class, if the class is suitable.
+     *
+     * @param type The class to generate an injector for.
+     * @param binaryName The binary name of the class.
+     * @return {@code true} if an injector was generated, otherwise {@code false}.
+     */
+    private boolean generateInjector(final TypeElement type, final String binaryName)
+    {
+        final String packageName = this.packageOf(type);
+
+        final String problem = this.checkType(type);
+        if (problem != null) return this.skip(type, problem);
+
+        if (this.countInjectConstructors(type) > 1)
+        {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                          "Multiple @Inject constructors on " + type.getQualifiedName(), type);
+            return false;
+        }
+
+        final ExecutableElement constructor = this.findConstructor(type);
+        if (constructor == null) return this.skip(type, "it has no visible @Inject or no-arg constructor");
+
+        final List<VariableElement> fields = new ArrayList<>();
+        this.collectFields(type, fields);
+        for (final VariableElement field : fields)
+        {
+            final String fieldProblem = this.checkField(field, packageName);
+            if (fieldProblem != null) return this.skip(type, fieldProblem);
+        }
+
+        final String targetName = this.typeName(type);
+        final String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                                            .replace('$', '_') + InjectorProcessor.INJECTOR_SUFFIX;
+        final String injectorName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("/**\n")
+              .append(" * Injector for {@link ").append(targetName).append("}.\n")
+              .append(" * Generated by the ObjectPortal annotation processor. Do not edit.\n")
+              .append(" */\n")
+              .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append("public final class ").append(simpleName)
+              .append(" implements ").append(InjectorProcessor.INJECTOR_INTERFACE).append("<").append(targetName).append(">\n")
+              .append("{\n")
+              .append("    @Override\n")
+              .append("    public Class<").append(targetName).append("> getTargetClass()\n")
+              .append("    {\n")
+              .append("        return ").append(targetName).append(".class;\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public int getFieldCount()\n")
+              .append("    {\n")
+              .append("        return ").append(fields.size()).append(";\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public ").append(targetName).append(" newInstance(final ").append(InjectorProcessor.CONTEXT_INTERFACE).append(" context)\n")
+              .append("    {\n")
+              .append("        final ").append(targetName).append(" instance = new ").append(targetName).append("(")
+              .append(this.constructorArguments(constructor)).append(");\n")
+              .append("        this.inject(instance, context);\n\n")
+              .append("        return instance;\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public void inject(final ").append(targetName).append(" target, final ").append(InjectorProcessor.CONTEXT_INTERFACE).append(" context)\n")
+              .append("    {\n");
+        for (final VariableElement field : fields)
+        {
+            final String owner = this.typeName((TypeElement)field.getEnclosingElement());
+            final TypeMirror lazyType = this.lazyType(field.asType());
+
+            final String fieldRef = (field.getModifiers().contains(Modifier.STATIC) ? owner : "((" + owner + ")target)")
+                                    + "." + field.getSimpleName();
+            if (lazyType != null)
+            {
+                source.append("        ").append(fieldRef).append(" = new ").append(InjectorProcessor.LAZY_HANDLE)
+                      .append("(context, ").append(this.erasedName(lazyType)).append(".class);\n");
+            }
+            else if (this.isOptional(field))
+            {
+                final String valueType = this.erasedName(field.asType());
+                source.append("        {\n")
+                      .append("            final ").append(valueType).append(" value = context.takeOrNull(")
+                      .append(valueType).append(".class);\n")
+                      .append("            if (value != null) ").append(fieldRef).append(" = value;\n")
+                      .append("        }\n");
+            }
+            else
+            {
+                source.append("        ").append(fieldRef).append(" = context.take(")
+                      .append(this.erasedName(field.asType())).append(".class);\n");
+            }
+        }
+        source.append("    }\n")
+              .append("}\n");
+
+        if (!this.writeSource(injectorName, source.toString(), type)) return false;
+
+        this.injectors.put(binaryName, injectorName);
+        this.roundElements.add(type);
+
+        return true;
+    }
+
+    /**
+     * Check that a class can be created and injected from generated code in its own package.
+     *
+     * @param type The class to check.
+     * @return A description of the problem, or {@code null} if the class is suitable.
+     */
+    private String checkType(final TypeElement type)
+    {
+        if (type.getKind() != ElementKind.CLASS) return "it is not a class";
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) return "it is abstract";
+
+        for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement())
+        {
+            final TypeElement enclosingType = (TypeElement)enclosing;
+            if (enclosingType.getModifiers().contains(Modifier.PRIVATE)) return "it is not visible to its package";
+            if (enclosingType.getNestingKind() == NestingKind.MEMBER
+                && !enclosingType.getModifiers().contains(Modifier.STATIC)) return "it is an inner class";
+            if (enclosingType.getNestingKind() == NestingKind.LOCAL
+                || enclosingType.getNestingKind() == NestingKind.ANONYMOUS) return "it is a local class";
+        }
+
+        return null;
+    }
+
+    /**
+     * Count the constructors of a class which are marked with {@link Inject}. More than one is reported as an error,
+     * matching the runtime, which refuses to instantiate such classes.
+     *
+     * @param type The class to search.
+     * @return The number of {@code @Inject} constructors.
+     */
+    private int countInjectConstructors(final TypeElement type)
+    {
+        int count = 0;
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements()))
+        {
+            if (constructor.getAnnotation(Inject.class) != null) count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Find the constructor used to create instances of a class. A constructor marked with {@link Inject} is used if
+     * present, otherwise the no-arg constructor is used.
+     *
+     * @param type The class to search.
+     * @return The selected constructor, or {@code null} if no suitable constructor is visible from the class's package.
+     */
+    private ExecutableElement findConstructor(final TypeElement type)
+    {
+        ExecutableElement selected = null;
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements()))
+        {
+            if (constructor.getAnnotation(Inject.class) != null)
+            {
+                return constructor.getModifiers().contains(Modifier.PRIVATE) ? null : constructor;
+            }
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE))
+            {
+                selected = constructor;
+            }
+        }
+
+        return selected;
+    }
+
+    /**
+     * Build the argument list for a constructor call, resolving each argument from the context.
+     *
+     * @param constructor The constructor being called.
+     * @return The source for the argument list, without parentheses.
+     */
+    private String constructorArguments(final ExecutableElement constructor)
+    {
+        final StringBuilder arguments = new StringBuilder();
+        for (final VariableElement parameter : constructor.getParameters())
+        {
+            if (arguments.length() > 0) arguments.append(", ");
+            arguments.append("context.take(").append(this.erasedName(parameter.asType())).append(".class)");
+        }
+
+        return arguments.toString();
+    }
+
+    /**
+     * Check that an injected field can be assigned from generated code in the given package.
+     *
+     * @param field The field to check.
+     * @param packageName The package the generated code will be placed in.
+     * @return A description of the problem, or {@code null} if the field is suitable.
+     */
+    private String checkField(final VariableElement field, final String packageName)
+    {
+        final Set<Modifier> modifiers = field.getModifiers();
+        final TypeElement owner = (TypeElement)field.getEnclosingElement();
+
+        if (modifiers.contains(Modifier.PRIVATE)) return "field " + field.getSimpleName() + " is private";
+        if (modifiers.contains(Modifier.FINAL)) return "field " + field.getSimpleName() + " is final";
+
+        if (!this.packageOf(owner).equals(packageName))
+        {
+            if (!modifiers.contains(Modifier.PUBLIC)) return "field " + field.getSimpleName() + " is not visible to its package";
+            if (!owner.getModifiers().contains(Modifier.PUBLIC)) return "field " + field.getSimpleName() + " is declared in a class not visible to its package";
+        }
+
+        return null;
+    }
+
+    /**
+     * Collect the injected fields of a class and all of its ancestors, ordered from the most distant ancestor down to
+     * the class itself.
+     *
+     * @param type The class to search.
+     * @param fields The {@link List} to add fields to.
+     */
+    private void collectFields(final TypeElement type, final List<VariableElement> fields)
+    {
+        final TypeMirror parent = type.getSuperclass();
+        if (parent.getKind() == TypeKind.DECLARED)
+        {
+            this.collectFields((TypeElement)((DeclaredType)parent).asElement(), fields);
+        }
+
+        for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements()))
+        {
+            if (field.getAnnotation(Inject.class) != null) fields.add(field);
+        }
+    }
+
+    /**
+     * Write an {@code InjectorIndex} for the injectors generated since the last index was written.
+     */
+    private void writeIndex()
+    {
+        String indexName = this.processingEnv.getOptions().get(InjectorProcessor.INDEX_OPTION);
+        if (indexName == null || indexName.isEmpty())
+        {
+            String indexPackage = null;
+            for (final String injector : this.injectors.values())
+            {
+                final int split = injector.lastIndexOf('.');
+                final String injectorPackage = split < 0 ? "" : injector.substring(0, split);
+                if (indexPackage == null || injectorPackage.compareTo(indexPackage) < 0) indexPackage = injectorPackage;
+            }
+            indexName = indexPackage.isEmpty()
+                        ? InjectorProcessor.DEFAULT_INDEX_NAME
+                        : indexPackage + "." + InjectorProcessor.DEFAULT_INDEX_NAME;
+        }
+
+        final String baseName = indexName;
+        for (int suffix = 2; this.indexes.contains(indexName); suffix++) indexName = baseName + "_" + suffix;
+
+        final int split = indexName.lastIndexOf('.');
+        final String packageName = split < 0 ? "" : indexName.substring(0, split);
+        final String simpleName = indexName.substring(split + 1);
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("/**\n")
+              .append(" * Index of injectors generated for this compilation.\n")
+              .append(" * Generated by the ObjectPortal annotation processor. Do not edit.\n")
+              .append(" */\n")
+              .append("public final class ").append(simpleName).append(" implements ").append(InjectorProcessor.INDEX_INTERFACE).append("\n")
+              .append("{\n")
+              .append("    @Override\n")
+              .append("    @SuppressWarnings(\"unchecked\")\n")
+              .append("    public <T> ").append(InjectorProcessor.INJECTOR_INTERFACE).append("<T> getInjector(final Class<T> targetClass)\n")
+              .append("    {\n")
+              .append("        switch (targetClass.getName())\n")
+              .append("        {\n");
+        for (final Map.Entry<String, String> injector : this.injectors.entrySet())
+        {
+            source.append("            case \"").append(injector.getKey()).append("\":\n")
+                  .append("                return (").append(InjectorProcessor.INJECTOR_INTERFACE).append("<T>)new ")
+                  .append(injector.getValue()).append("();\n");
+        }
+        source.append("            default:\n")
+              .append("                return null;\n")
+              .append("        }\n")
+              .append("    }\n")
+              .append("}\n");
+
+        final Element[] origins = this.roundElements.toArray(new Element[this.roundElements.size()]);
+        this.injectors.clear();
+        this.roundElements.clear();
+        if (!this.writeSource(indexName, source.toString(), origins)) return;
+
+        this.indexes.add(indexName);
+        Collections.addAll(this.originatingElements, origins);
+    }
+
+    /**
+     * Write the {@link java.util.ServiceLoader} registration for every index written during this compilation.
+     */
+    private void writeServices()
+    {
+        final Element[] origins = this.originatingElements.toArray(new Element[this.originatingElements.size()]);
+        try
+        {
+            final FileObject services = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                                                                                     "META-INF/services/" + InjectorProcessor.INDEX_INTERFACE,
+                                                                                     origins);
+            try (Writer writer = services.openWriter())
+            {
+                for (final String index : this.indexes)
+                {
+                    writer.write(index);
+                    writer.write("\n");
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to register injector index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write a generated source file.
+     *
+     * @param name The fully qualified name of the generated class.
+     * @param source The source code to write.
+     * @param origins The elements which caused the source to be generated.
+     * @return {@code true} if the source was written, otherwise {@code false}.
+     */
+    private boolean writeSource(final String name, final String source, final Element... origins)
+    {
+        try
+        {
+            final JavaFileObject file = this.processingEnv.getFiler().createSourceFile(name, origins);
+            try (Writer writer = file.openWriter())
+            {
+                writer.write(source);
+            }
+
+            return true;
+        }
+        catch (IOException e)
+        {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + name + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Report that a class was skipped.
+     *
+     * @param type The class which was skipped.
+     * @param reason The reason it was skipped.
+     * @return Always {@code false}.
+     */
+    private boolean skip(final TypeElement type, final String reason)
+    {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                      "No injector generated for " + type.getQualifiedName() + " because " + reason
+                                                      + ". It will be injected reflectively.", type);
+        return false;
+    }
+
+    /**
+     * Fetch the package name for the given type.
+     *
+     * @param type The type to inspect.
+     * @return The package name, or an empty {@code String} for the unnamed package.
+     */
+    private String packageOf(final TypeElement type)
+    {
+        final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    /**
+     * Fetch the name used to refer to a type in generated source, without any type arguments.
+     *
+     * @param type The type to name.
+     * @return The canonical name of the type.
+     */
+    private String typeName(final TypeElement type)
+    {
+        return type.getQualifiedName().toString();
+    }
+
+    /**
+     * Checks whether a field is marked with the {@code OptionalInject} annotation.
+     *
+     * @param field The field to check.
+     * @return {@code true} if the field is optional, otherwise {@code false}.
+     */
+    private boolean isOptional(final VariableElement field)
+    {
+        for (final AnnotationMirror annotation : field.getAnnotationMirrors())
+        {
+            final TypeElement type = (TypeElement)annotation.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(InjectorProcessor.OPTIONAL_ANNOTATION)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Determine the dependency type of a lazily injected field. This mirrors the runtime rules: the field must be a
+     * {@code Provider} or {@code Supplier} with a single declared type argument.
+     *
+     * @param type The declared type of the field.
+     * @return The type supplied by the field, or {@code null} if the field is not lazy.
+     */
+    private TypeMirror lazyType(final TypeMirror type)
+    {
+        if (type.getKind() != TypeKind.DECLARED) return null;
+
+        final DeclaredType declared = (DeclaredType)type;
+        final String name = this.typeName((TypeElement)declared.asElement());
+        if (!name.equals(InjectorProcessor.PROVIDER_INTERFACE) && !name.equals(InjectorProcessor.SUPPLIER_INTERFACE)) return null;
+        if (declared.getTypeArguments().size() != 1) return null;
+
+        final TypeMirror argument = declared.getTypeArguments().get(0);
+        return argument.getKind() == TypeKind.DECLARED ? argument : null;
+    }
+
+    /**
+     * Fetch the name of the erasure of a type, suitable for use in a class literal.
+     *
+     * @param type The type to name.
+     * @return The name of the erased type.
+     */
+    private String erasedName(final TypeMirror type)
+    {
+        final TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.DECLARED)
+        {
+            return this.typeName((TypeElement)((DeclaredType)erased).asElement());
+        }
+
+        return erased.toString();
+    }
+}
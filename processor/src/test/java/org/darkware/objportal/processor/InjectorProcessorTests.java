@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2016. darkware.org and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.darkware.objportal.processor;
+
+import org.darkware.objportal.GeneratedInjector;
+import org.darkware.objportal.InjectionPlan;
+import org.darkware.objportal.InjectorIndex;
+import org.darkware.objportal.LazyDependency;
+import org.darkware.objportal.SimplePortalContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the {@link InjectorProcessor}. Each test compiles a small set of sources with the processor enabled and
+ * then inspects the generated output.
+ *
+ * @author jeff@darkware.org
+ * @since 2026-10-17
+ */
+public class InjectorProcessorTests
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File sourceDir;
+    private File outputDir;
+    private List<Processor> processors;
+
+    @Before
+    public void setup() throws IOException
+    {
+        this.sourceDir = this.folder.newFolder("src");
+        this.outputDir = this.folder.newFolder("classes");
+        this.processors = new ArrayList<>(Arrays.asList(new InjectorProcessor()));
+    }
+
+    @Test
+    public void generate_simple() throws Exception
+    {
+        this.source("sample/Service.java",
+                    "package sample;",
+                    "public class Service {",
+                    "    @javax.inject.Inject Integer answer;",
+                    "    @javax.inject.Inject public String name;",
+                    "    int notInjected;",
+                    "}");
+        this.compile();
+
+        assertThat(new File(this.outputDir, "sample/Service_PortalInjector.class")).exists();
+        assertThat(this.read("META-INF/services/org.darkware.objportal.InjectorIndex")).isEqualTo("sample.ObjectPortalInjectorIndex\n");
+
+        try (URLClassLoader loader = this.loader())
+        {
+            Object service = this.inject(loader, "sample.Service");
+
+            assertThat(this.fieldValue(service.getClass(), service, "answer")).isEqualTo(42);
+            assertThat(this.fieldValue(service.getClass(), service, "name")).isEqualTo("name");
+        }
+    }
+
+    @Test
+    public void generate_inheritedAndNested() throws Exception
+    {
+        this.source("sample/Base.java",
+                    "package sample;",
+                    "public class Base {",
+                    "    @javax.inject.Inject protected Integer answer;",
+                    "}");
+        this.source("sample/Outer.java",
+                    "package sample;",
+                    "public class Outer {",
+                    "    public static class Inner extends Base {",
+                    "        @javax.inject.Inject String answer;",
+                    "    }",
+                    "}");
+        this.compile();
+
+        try (URLClassLoader loader = this.loader())
+        {
+            Object inner = this.inject(loader, "sample.Outer$Inner");
+
+            assertThat(this.fieldValue(loader.loadClass("sample.Base"), inner, "answer")).isEqualTo(42);
+            assertThat(this.fieldValue(inner.getClass(), inner, "answer")).isEqualTo("name");
+            assertThat(this.injector(loader, inner.getClass()).getFieldCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void generate_constructor() throws Exception
+    {
+        this.source("sample/Immutable.java",
+                    "package sample;",
+                    "public class Immutable {",
+                    "    private final Integer answer;",
+                    "    private final String name;",
+                    "    @javax.inject.Inject Immutable(Integer answer, String name) {",
+                    "        this.answer = answer;",
+                    "        this.name = name;",
+                    "    }",
+                    "}");
+        this.compile();
+
+        try (URLClassLoader loader = this.loader())
+        {
+            Object immutable = this.inject(loader, "sample.Immutable");
+
+            assertThat(this.fieldValue(immutable.getClass(), immutable, "answer")).isEqualTo(42);
+            assertThat(this.fieldValue(immutable.getClass(), immutable, "name")).isEqualTo("name");
+        }
+    }
+
+    @Test
+    public void generate_lazyFields() throws Exception
+    {
+        this.source("sample/Lazy.java",
+                    "package sample;",
+                    "public class Lazy {",
+                    "    @javax.inject.Inject javax.inject.Provider<Integer> answer;",
+                    "    @javax.inject.Inject java.util.function.Supplier<String> name;",
+                    "}");
+        this.compile();
+
+        try (URLClassLoader loader = this.loader())
+        {
+            Object lazy = this.inject(loader, "sample.Lazy");
+
+            Object answer = this.fieldValue(lazy.getClass(), lazy, "answer");
+            Object name = this.fieldValue(lazy.getClass(), lazy, "name");
+            assertThat(answer).isInstanceOf(LazyDependency.class);
+            assertThat(((LazyDependency<?>)answer).get()).isEqualTo(42);
+            assertThat(((LazyDependency<?>)name).get()).isEqualTo("name");
+        }
+    }
+
+    @Test
+    public void generate_optionalFields() throws Exception
+    {
+        this.source("sample/Optional.java",
+                    "package sample;",
+                    "public class Optional {",
+                    "    @javax.inject.Inject @org.darkware.objportal.OptionalInject Integer answer;",
+                    "    @javax.inject.Inject @org.darkware.objportal.OptionalInject Long missing = 7L;",
+                    "}");
+        this.compile();
+
+        try (URLClassLoader loader = this.loader())
+        {
+            Object optional = this.inject(loader, "sample.Optional");
+
+            assertThat(this.fieldValue(optional.getClass(), optional, "answer")).isEqualTo(42);
+            assertThat(this.fieldValue(optional.getClass(), optional, "missing")).isEqualTo(7L);
+        }
+    }
+
+    @Test
+    public void skip_privateField() throws Exception
+    {
+        this.source("sample/Hidden.java",
+                    "package sample;",
+                    "public class Hidden {",
+                    "    @javax.inject.Inject private Integer answer;",
+                    "}");
+        this.source("sample/Visible.java",
+                    "package sample;",
+                    "public class Visible {",
+                    "    @javax.inject.Inject Integer answer;",
+                    "}");
+        this.compile();
+
+        assertThat(new File(this.outputDir, "sample/Hidden_PortalInjector.class")).doesNotExist();
+        assertThat(new File(this.outputDir, "sample/Visible_PortalInjector.class")).exists();
+    }
+
+    @Test
+    public void skip_noConstructor() throws Exception
+    {
+        this.source("sample/NoConstructor.java",
+                    "package sample;",
+                    "public class NoConstructor {",
+                    "    @javax.inject.Inject Integer answer;",
+                    "    public NoConstructor(int value) {}",
+                    "}");
+        this.compile();
+
+        assertThat(new File(this.outputDir, "sample/NoConstructor_PortalInjector.class")).doesNotExist();
+        assertThat(new File(this.outputDir, "META-INF/services/org.darkware.objportal.InjectorIndex")).doesNotExist();
+    }
+
+    @Test
+    public void error_multipleInjectConstructors() throws Exception
+    {
+        this.source("sample/Ambiguous.java",
+                    "package sample;",
+                    "public class Ambiguous {",
+                    "    @javax.inject.Inject Ambiguous(Integer answer) {}",
+                    "    @javax.inject.Inject Ambiguous(String name) {}",
+                    "}");
+
+        assertThat(this.tryCompile()).isFalse();
+        assertThat(new File(this.outputDir, "sample/Ambiguous_PortalInjector.class")).doesNotExist();
+    }
+
+    @Test
+    public void index_namedByOption() throws Exception
+    {
+        this.source("sample/Service.java",
+                    "package sample;",
+                    "public class Service {",
+                    "    @javax.inject.Inject Integer answer;",
+                    "}");
+        this.compile("-A" + InjectorProcessor.INDEX_OPTION + "=custom.Index");
+
+        assertThat(new File(this.outputDir, "custom/Index.class")).exists();
+        assertThat(this.read("META-INF/services/org.darkware.objportal.InjectorIndex")).isEqualTo("custom.Index\n");
+    }
+
+    @Test
+    public void index_foundThroughClassLoader() throws Exception
+    {
+        this.source("sample/Service.java",
+                    "package sample;",
+                    "public class Service {",
+                    "    @javax.inject.Inject Integer answer;",
+                    "}");
+        this.compile();
+
+        try (URLClassLoader loader = this.loader())
+        {
+            Class<?> serviceClass = loader.loadClass("sample.Service");
+            InjectionPlan plan = InjectionPlan.forClass(serviceClass);
+
+            assertThat(plan.getGeneratedInjector()).isNotNull();
+            assertThat(plan.getGeneratedInjector().getTargetClass()).isSameAs(serviceClass);
+        }
+    }
+
+    @Test
+    public void index_coversLaterRounds() throws Exception
+    {
+        this.source("sample/Service.java",
+                    "package sample;",
+                    "public class Service {",
+                    "    @javax.inject.Inject Integer answer;",
+                    "}");
+        this.processors.add(new LateSourceProcessor());
+        this.compile();
+
+        assertThat(this.read("META-INF/services/org.darkware.objportal.InjectorIndex"))
+            .isEqualTo("sample.ObjectPortalInjectorIndex\nsample.ObjectPortalInjectorIndex_2\n");
+
+        try (URLClassLoader loader = this.loader())
+        {
+            Object service = this.inject(loader, "sample.Service");
+            Object late = this.inject(loader, "sample.Late");
+
+            assertThat(this.fieldValue(service.getClass(), service, "answer")).isEqualTo(42);
+            assertThat(this.fieldValue(late.getClass(), late, "answer")).isEqualTo(42);
+        }
+    }
+
+    /**
+     * Create an instance of the named class through the generated index, using a context with an {@code Integer}
+     * and a {@code String} available.
+     *
+     * @param loader The class loader holding the compiled classes.
+     * @param className The binary name of the class to create.
+     * @return The new, injected object.
+     */
+    private Object inject(final ClassLoader loader, final String className) throws Exception
+    {
+        Class<?> targetClass = loader.loadClass(className);
+        GeneratedInjector<?> injector = this.injector(loader, targetClass);
+        assertThat(injector).isNotNull();
+        assertThat(injector.getTargetClass()).isSameAs(targetClass);
+
+        SimplePortalContext context = new SimplePortalContext();
+        context.place(Integer.class, 42);
+        context.place(String.class, "name");
+
+        return injector.newInstance(context);
+    }
+
+    /**
+     * Fetch the generated injector for a class through the generated indexes.
+     *
+     * @param loader The class loader holding the compiled classes.
+     * @param targetClass The class to fetch the injector for.
+     * @return The {@link GeneratedInjector}, or {@code null} if no index has one for the class.
+     */
+    private GeneratedInjector<?> injector(final ClassLoader loader, final Class<?> targetClass) throws Exception
+    {
+        for (String indexName : this.read("META-INF/services/org.darkware.objportal.InjectorIndex").trim().split("\n"))
+        {
+            InjectorIndex index = (InjectorIndex)loader.loadClass(indexName).newInstance();
+            GeneratedInjector<?> injector = index.getInjector(targetClass);
+            if (injector != null) return injector;
+        }
+
+        return null;
+    }
+
+    /**
+     * Read the value of a field, regardless of its visibility.
+     *
+     * @param owner The class which declares the field.
+     * @param instance The object to read the field from.
+     * @param name The name of the field.
+     * @return The value of the field.
+     */
+    private Object fieldValue(final Class<?> owner, final Object instance, final String name) throws Exception
+    {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+
+        return field.get(instance);
+    }
+
+    /**
+     * Write a source file.
+     *
+     * @param path The path of the file, relative to the source root.
+     * @param lines The lines of the file.
+     */
+    private void source(final String path, final String... lines) throws IOException
+    {
+        File file = new File(this.sourceDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a generated file as a {@code String}.
+     *
+     * @param path The path of the file, relative to the output directory.
+     * @return The file contents.
+     */
+    private String read(final String path) throws IOException
+    {
+        return new String(Files.readAllBytes(new File(this.outputDir, path).toPath()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compile all written sources with the {@link InjectorProcessor}, expecting the compilation to succeed.
+     *
+     * @param options Additional compiler options.
+     */
+    private void compile(final String... options) throws IOException
+    {
+        assertThat(this.tryCompile(options)).isTrue();
+    }
+
+    /**
+     * Compile all written sources with the {@link InjectorProcessor} and any other configured processors.
+     *
+     * @param options Additional compiler options.
+     * @return {@code true} if the compilation succeeded, otherwise {@code false}.
+     */
+    private boolean tryCompile(final String... options) throws IOException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8))
+        {
+            List<File> sources = new ArrayList<>();
+            Files.walk(this.sourceDir.toPath()).filter(p -> p.toString().endsWith(".java")).forEach(p -> sources.add(p.toFile()));
+
+            List<String> arguments = new ArrayList<>(Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                                                                   "-d", this.outputDir.getPath(),
+                                                                   "-s", this.outputDir.getPath()));
+            arguments.addAll(Arrays.asList(options));
+
+            Iterable<? extends JavaFileObject> units = files.getJavaFileObjectsFromFiles(sources);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, null, arguments, null, units);
+            task.setProcessors(this.processors);
+
+            return task.call();
+        }
+    }
+
+    /**
+     * Create a class loader for the compiled output.
+     *
+     * @return A {@link URLClassLoader} which delegates to the test class loader.
+     */
+    private URLClassLoader loader() throws IOException
+    {
+        return new URLClassLoader(new URL[] { this.outputDir.toURI().toURL() }, this.getClass().getClassLoader());
+    }
+
+    /**
+     * A processor which generates an injectable class in the first round, so that the class is only seen by the
+     * {@link InjectorProcessor} in a later round.
+     */
+    @SupportedAnnotationTypes("*")
+    public static class LateSourceProcessor extends AbstractProcessor
+    {
+        private boolean written = false;
+
+        @Override
+        public SourceVersion getSupportedSourceVersion()
+        {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+        {
+            if (this.written) return false;
+            this.written = true;
+
+            try (Writer writer = this.processingEnv.getFiler().createSourceFile("sample.Late").openWriter())
+            {
+                writer.write("package sample;\npublic class Late {\n    @javax.inject.Inject Integer answer;\n}\n");
+            }
+            catch (IOException e)
+            {
+                throw new IllegalStateException(e);
+            }
+
+            return false;
+        }
+    }
+}